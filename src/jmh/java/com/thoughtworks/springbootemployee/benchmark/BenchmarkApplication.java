@@ -0,0 +1,45 @@
+package com.thoughtworks.springbootemployee.benchmark;
+
+import com.thoughtworks.springbootemployee.SpringBootEmployeeApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class BenchmarkApplication {
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(Class<?>... configurations) {
+        return builder(configurations)
+                .web(WebApplicationType.NONE)
+                .run();
+    }
+
+    public static ConfigurableApplicationContext start(String profile, Class<?>... configurations) {
+        return builder(configurations)
+                .profiles(profile)
+                .web(WebApplicationType.NONE)
+                .run();
+    }
+
+    public static ConfigurableApplicationContext startServlet(Class<?>... configurations) {
+        return builder(configurations)
+                .web(WebApplicationType.SERVLET)
+                .properties("server.port=-1")
+                .run();
+    }
+
+    private static SpringApplicationBuilder builder(Class<?>... configurations) {
+        List<Class<?>> sources = new ArrayList<>();
+        sources.add(SpringBootEmployeeApplication.class);
+        sources.addAll(Arrays.asList(configurations));
+
+        return new SpringApplicationBuilder(sources.toArray(new Class<?>[0]))
+                .properties("admission.enabled=false")
+                .logStartupInfo(false);
+    }
+}
@@ -0,0 +1,95 @@
+package com.thoughtworks.springbootemployee.benchmark;
+
+import com.thoughtworks.springbootemployee.entity.Company;
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.repository.CompanyRepository;
+import com.thoughtworks.springbootemployee.repository.EmployeeRepository;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public final class BenchmarkDataset {
+    public static final int EMPLOYEES_PER_COMPANY = 10;
+
+    private static final int INSERT_CHUNK_SIZE = 10_000;
+
+    private final List<Company> companies;
+    private final List<Employee> employees;
+
+    private BenchmarkDataset(List<Company> companies, List<Employee> employees) {
+        this.companies = companies;
+        this.employees = employees;
+    }
+
+    public static BenchmarkDataset build(int employeeCount) {
+        List<Company> companies = newCompanies(employeeCount);
+        for (int index = 0; index < companies.size(); index++) {
+            companies.get(index).setId(String.format("%024x", index));
+        }
+
+        List<Employee> employees = newEmployees(employeeCount, companies);
+        for (int index = 0; index < employees.size(); index++) {
+            employees.get(index).setId(String.format("%024x", index));
+        }
+
+        return new BenchmarkDataset(companies, employees);
+    }
+
+    public static BenchmarkDataset seed(ConfigurableApplicationContext context, int employeeCount) {
+        CompanyRepository companyRepository = context.getBean(CompanyRepository.class);
+        EmployeeRepository employeeRepository = context.getBean(EmployeeRepository.class);
+
+        List<Company> companies = companyRepository.insert(newCompanies(employeeCount));
+        List<Employee> employees = newEmployees(employeeCount, companies);
+
+        List<Employee> insertedEmployees = new ArrayList<>(employees.size());
+        for (int from = 0; from < employees.size(); from += INSERT_CHUNK_SIZE) {
+            insertedEmployees.addAll(employeeRepository.insert(employees.subList(from, Math.min(from + INSERT_CHUNK_SIZE, employees.size()))));
+        }
+
+        return new BenchmarkDataset(companies, insertedEmployees);
+    }
+
+    public static void clear(ConfigurableApplicationContext context) {
+        context.getBean(EmployeeRepository.class).deleteAll();
+        context.getBean(CompanyRepository.class).deleteAll();
+    }
+
+    public List<Company> getCompanies() {
+        return this.companies;
+    }
+
+    public List<Employee> getEmployees() {
+        return this.employees;
+    }
+
+    public Map<String, List<Employee>> getEmployeesByCompanyId() {
+        return this.employees.stream()
+                .collect(Collectors.groupingBy(Employee::getCompanyId));
+    }
+
+    private static List<Company> newCompanies(int employeeCount) {
+        int companyCount = Math.max(1, employeeCount / EMPLOYEES_PER_COMPANY);
+
+        List<Company> companies = new ArrayList<>(companyCount);
+        for (int index = 0; index < companyCount; index++) {
+            Company company = new Company("Company" + index);
+            company.setEmployeesNumber(employeeCount / companyCount + (index < employeeCount % companyCount ? 1 : 0));
+            companies.add(company);
+        }
+
+        return companies;
+    }
+
+    private static List<Employee> newEmployees(int employeeCount, List<Company> companies) {
+        List<Employee> employees = new ArrayList<>(employeeCount);
+        for (int index = 0; index < employeeCount; index++) {
+            employees.add(new Employee("Employee" + index, 20 + index % 40, index % 2 == 0 ? "Male" : "Female", 10000 + index, companies.get(index % companies.size()).getId()));
+        }
+
+        return employees;
+    }
+}
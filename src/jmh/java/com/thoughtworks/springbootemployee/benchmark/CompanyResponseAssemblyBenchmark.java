@@ -0,0 +1,108 @@
+package com.thoughtworks.springbootemployee.benchmark;
+
+import com.thoughtworks.springbootemployee.dto.CompanyResponse;
+import com.thoughtworks.springbootemployee.entity.Company;
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.exception.CompanyNotFoundException;
+import com.thoughtworks.springbootemployee.mapper.CompanyMapper;
+import com.thoughtworks.springbootemployee.repository.CompanyRepository;
+import com.thoughtworks.springbootemployee.repository.EmployeeRepository;
+import com.thoughtworks.springbootemployee.service.CompanyService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompanyResponseAssemblyBenchmark {
+    private static final int EMPLOYEES_PER_COMPANY = 5;
+
+    @Param({"10", "100", "1000"})
+    public int companyCount;
+
+    private ConfigurableApplicationContext context;
+    private CompanyService companyService;
+    private CompanyMapper companyMapper;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RoundTrips {
+        public long roundTripsPerOperation;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = BenchmarkApplication.start(CommandCountingConfiguration.class);
+        this.companyService = this.context.getBean(CompanyService.class);
+        this.companyMapper = this.context.getBean(CompanyMapper.class);
+
+        CompanyRepository companyRepository = this.context.getBean(CompanyRepository.class);
+        EmployeeRepository employeeRepository = this.context.getBean(EmployeeRepository.class);
+
+        List<Company> companies = new ArrayList<>();
+        for (int index = 0; index < this.companyCount; index++) {
+            companies.add(new Company("Company" + index));
+        }
+        companies = companyRepository.insert(companies);
+
+        List<Employee> employees = new ArrayList<>();
+        for (Company company : companies) {
+            for (int index = 0; index < EMPLOYEES_PER_COMPANY; index++) {
+                employees.add(new Employee("Employee" + index, 20 + index, index % 2 == 0 ? "Male" : "Female", 10000 * index, company.getId()));
+            }
+        }
+        employeeRepository.insert(employees);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.getBean(EmployeeRepository.class).deleteAll();
+        this.context.getBean(CompanyRepository.class).deleteAll();
+        this.context.close();
+    }
+
+    @Benchmark
+    public List<CompanyResponse> perCompanyLookup(RoundTrips roundTrips) throws CompanyNotFoundException {
+        long commandsBefore = CommandCountingConfiguration.COMMANDS.get();
+
+        List<CompanyResponse> companyResponses = new ArrayList<>();
+        for (Company company : this.companyService.findAll()) {
+            companyResponses.add(this.companyMapper.toResponse(company, this.companyService.findCompanyEmployeesById(company.getId()).getItems()));
+        }
+
+        roundTrips.roundTripsPerOperation = CommandCountingConfiguration.COMMANDS.get() - commandsBefore;
+
+        return companyResponses;
+    }
+
+    @Benchmark
+    public List<CompanyResponse> batchedLookup(RoundTrips roundTrips) {
+        long commandsBefore = CommandCountingConfiguration.COMMANDS.get();
+
+        List<CompanyResponse> companyResponses = this.companyMapper.toResponse(this.companyService.findAll());
+
+        roundTrips.roundTripsPerOperation = CommandCountingConfiguration.COMMANDS.get() - commandsBefore;
+
+        return companyResponses;
+    }
+}
@@ -0,0 +1,108 @@
+package com.thoughtworks.springbootemployee.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class ConcurrentLoadTest {
+    private static final int CONCURRENCY = Integer.getInteger("loadTest.concurrency", 5000);
+    private static final int REQUESTS_PER_CONNECTION = Integer.getInteger("loadTest.requestsPerConnection", 20);
+    private static final String PATH = System.getProperty("loadTest.path", "/employees?page=1&pageSize=20");
+
+    private ConcurrentLoadTest() {
+    }
+
+    public static void main(String[] args) {
+        List<String> baseUrls = args.length > 0 ? Arrays.asList(args) : Arrays.asList("http://localhost:8080", "http://localhost:8081");
+
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("load-test")
+                .maxConnections(CONCURRENCY)
+                .pendingAcquireMaxCount(-1)
+                .build();
+
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%-30s %10s %10s %10s %10s %12s", "target", "requests", "errors", "p50 (ms)", "p99 (ms)", "peak threads"));
+
+        for (String baseUrl : baseUrls) {
+            WebClient webClient = WebClient.builder()
+                    .baseUrl(baseUrl)
+                    .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                    .build();
+
+            run(webClient, CONCURRENCY, new ArrayList<>());
+            List<Long> latencies = new ArrayList<>();
+            int errors = run(webClient, CONCURRENCY * REQUESTS_PER_CONNECTION, latencies);
+            latencies.sort(Long::compare);
+
+            report.add(String.format("%-30s %10d %10d %10.1f %10.1f %12d",
+                    baseUrl,
+                    latencies.size() + errors,
+                    errors,
+                    percentile(latencies, 0.50) / 1_000_000.0,
+                    percentile(latencies, 0.99) / 1_000_000.0,
+                    peakThreads(webClient)));
+        }
+
+        connectionProvider.dispose();
+        report.forEach(System.out::println);
+    }
+
+    private static int run(WebClient webClient, int requests, List<Long> latencies) {
+        int[] errors = new int[1];
+
+        Flux.range(0, requests)
+                .flatMap(index -> timedRequest(webClient), CONCURRENCY)
+                .doOnNext(latency -> {
+                    if (latency < 0) {
+                        errors[0]++;
+                    } else {
+                        latencies.add(latency);
+                    }
+                })
+                .blockLast(Duration.ofMinutes(10));
+
+        return errors[0];
+    }
+
+    private static Mono<Long> timedRequest(WebClient webClient) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+
+            return webClient.get()
+                    .uri(PATH)
+                    .retrieve()
+                    .toBodilessEntity()
+                    .map(response -> System.nanoTime() - start)
+                    .onErrorReturn(-1L);
+        });
+    }
+
+    private static long percentile(List<Long> sortedLatencies, double percentile) {
+        if (sortedLatencies.isEmpty()) {
+            return 0;
+        }
+
+        int index = (int) Math.ceil(percentile * sortedLatencies.size()) - 1;
+
+        return sortedLatencies.get(Math.max(index, 0));
+    }
+
+    private static long peakThreads(WebClient webClient) {
+        JsonNode metric = webClient.get()
+                .uri("/actuator/metrics/jvm.threads.peak")
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .block(Duration.ofSeconds(30));
+
+        return metric == null ? -1 : metric.path("measurements").path(0).path("value").asLong();
+    }
+}
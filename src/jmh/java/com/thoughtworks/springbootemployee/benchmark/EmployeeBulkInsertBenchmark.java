@@ -0,0 +1,93 @@
+package com.thoughtworks.springbootemployee.benchmark;
+
+import com.thoughtworks.springbootemployee.dto.EmployeeBulkItemResponse;
+import com.thoughtworks.springbootemployee.entity.Company;
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.exception.CompanyNotFoundException;
+import com.thoughtworks.springbootemployee.repository.CompanyRepository;
+import com.thoughtworks.springbootemployee.repository.EmployeeRepository;
+import com.thoughtworks.springbootemployee.service.EmployeeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeBulkInsertBenchmark {
+    private static final int COMPANY_COUNT = 20;
+
+    @Param({"100", "1000", "10000"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+    private EmployeeRepository employeeRepository;
+    private List<String> companyIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = BenchmarkApplication.start();
+        this.employeeService = this.context.getBean(EmployeeService.class);
+        this.employeeRepository = this.context.getBean(EmployeeRepository.class);
+
+        this.companyIds = new ArrayList<>();
+        CompanyRepository companyRepository = this.context.getBean(CompanyRepository.class);
+        for (int index = 0; index < COMPANY_COUNT; index++) {
+            this.companyIds.add(companyRepository.insert(new Company("Company" + index)).getId());
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearEmployees() {
+        this.employeeRepository.deleteAll();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.getBean(CompanyRepository.class).deleteAll();
+        this.context.close();
+    }
+
+    @Benchmark
+    public List<Employee> singleItem() throws CompanyNotFoundException {
+        List<Employee> addedEmployees = new ArrayList<>(this.batchSize);
+        for (Employee employee : this.newEmployees()) {
+            addedEmployees.add(this.employeeService.add(employee));
+        }
+
+        return addedEmployees;
+    }
+
+    @Benchmark
+    public List<EmployeeBulkItemResponse> bulk() {
+        return this.employeeService.bulkUpsert(this.newEmployees().iterator());
+    }
+
+    private List<Employee> newEmployees() {
+        List<Employee> employees = new ArrayList<>(this.batchSize);
+        for (int index = 0; index < this.batchSize; index++) {
+            employees.add(new Employee("Employee" + index, 20 + index % 40, index % 2 == 0 ? "Male" : "Female", 10000 + index, this.companyIds.get(index % COMPANY_COUNT)));
+        }
+
+        return employees;
+    }
+}
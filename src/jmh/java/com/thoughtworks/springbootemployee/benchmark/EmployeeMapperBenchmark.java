@@ -0,0 +1,63 @@
+package com.thoughtworks.springbootemployee.benchmark;
+
+import com.thoughtworks.springbootemployee.dto.EmployeeResponse;
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.mapper.EmployeeMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.BeanUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeMapperBenchmark {
+    @Param({"1", "1000", "100000"})
+    public int employeeCount;
+
+    private final EmployeeMapper employeeMapper = new EmployeeMapper();
+    private List<Employee> employees;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.employees = new ArrayList<>(this.employeeCount);
+        for (int index = 0; index < this.employeeCount; index++) {
+            this.employees.add(new Employee("Employee" + index, 20 + index % 40, index % 2 == 0 ? "Male" : "Female", 10000 + index, "company" + index % 100));
+        }
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> beanUtilsCopy() {
+        return this.employees.stream()
+                .map(employee -> {
+                    EmployeeResponse employeeResponse = new EmployeeResponse();
+
+                    BeanUtils.copyProperties(employee, employeeResponse);
+
+                    return employeeResponse;
+                })
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> directCopy() {
+        return this.employeeMapper.toResponse(this.employees);
+    }
+}
@@ -0,0 +1,157 @@
+package com.thoughtworks.springbootemployee.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thoughtworks.springbootemployee.entity.Company;
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.exception.CompanyNotFoundException;
+import com.thoughtworks.springbootemployee.service.CompanyService;
+import com.thoughtworks.springbootemployee.service.EmployeeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.request;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EndpointBenchmark {
+    @Param({"1000", "10000"})
+    public int datasetSize;
+
+    @Param({
+            "GET /employees",
+            "GET /employees?stream=true",
+            "GET /employees?gender=Male",
+            "GET /employees?page=1&pageSize=20",
+            "GET /employees?page=1&pageSize=20&fields=name,salary",
+            "GET /employees?limit=20",
+            "GET /employees/stats?groupBy=gender",
+            "GET /employees/{employeeId}",
+            "POST /employees",
+            "PUT /employees/{employeeId}",
+            "DELETE /employees/{newEmployeeId}",
+            "GET /companies",
+            "GET /companies?embed=none",
+            "GET /companies?page=1&pageSize=20",
+            "GET /companies?limit=20",
+            "GET /companies/{companyId}",
+            "GET /companies/{companyId}/employees",
+            "GET /companies/{companyId}/stats",
+            "POST /companies",
+            "PUT /companies/{companyId}",
+            "DELETE /companies/{newCompanyId}"
+    })
+    public String endpoint;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private EmployeeService employeeService;
+    private CompanyService companyService;
+    private ObjectMapper objectMapper;
+    private HttpMethod method;
+    private String uriTemplate;
+    private String uri;
+    private String body;
+    private String companyId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = BenchmarkApplication.startServlet();
+        this.mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) this.context).build();
+        this.employeeService = this.context.getBean(EmployeeService.class);
+        this.companyService = this.context.getBean(CompanyService.class);
+        this.objectMapper = this.context.getBean(ObjectMapper.class);
+
+        BenchmarkDataset dataset = BenchmarkDataset.seed(this.context, this.datasetSize);
+        String employeeId = dataset.getEmployees().get(this.datasetSize / 2).getId();
+        this.companyId = dataset.getCompanies().get(dataset.getCompanies().size() / 2).getId();
+
+        String[] methodAndUri = this.endpoint.split(" ", 2);
+        this.method = HttpMethod.valueOf(methodAndUri[0]);
+        this.uriTemplate = methodAndUri[1]
+                .replace("{employeeId}", employeeId)
+                .replace("{companyId}", this.companyId);
+        this.uri = this.uriTemplate;
+        this.body = this.uri.startsWith("/employees") ? this.employeeRequest() : this.companyRequest();
+    }
+
+    @Setup(Level.Invocation)
+    public void createDeletedEntity() throws CompanyNotFoundException {
+        if (this.uriTemplate.contains("{newEmployeeId}")) {
+            Employee employee = this.employeeService.add(new Employee("Employee", 30, "Female", 20000, this.companyId));
+            this.uri = this.uriTemplate.replace("{newEmployeeId}", employee.getId());
+        } else if (this.uriTemplate.contains("{newCompanyId}")) {
+            Company company = this.companyService.add(new Company("Company"));
+            this.uri = this.uriTemplate.replace("{newCompanyId}", company.getId());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkDataset.clear(this.context);
+        this.context.close();
+    }
+
+    @Benchmark
+    public MvcResult endpoint() throws Exception {
+        MockHttpServletRequestBuilder requestBuilder = request(this.method, this.uri);
+        if (this.method == HttpMethod.POST || this.method == HttpMethod.PUT) {
+            requestBuilder.contentType(MediaType.APPLICATION_JSON).content(this.body);
+        }
+
+        return this.perform(requestBuilder);
+    }
+
+    private MvcResult perform(MockHttpServletRequestBuilder requestBuilder) throws Exception {
+        MvcResult result = this.mockMvc.perform(requestBuilder).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result = this.mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+        if (result.getResponse().getStatus() >= 400) {
+            throw new IllegalStateException(this.method + " " + this.uri + " answered " + result.getResponse().getStatus());
+        }
+
+        return result;
+    }
+
+    private String employeeRequest() {
+        return this.objectMapper.createObjectNode()
+                .put("name", "Employee")
+                .put("age", 30)
+                .put("gender", "Female")
+                .put("salary", 20000)
+                .put("companyId", this.companyId)
+                .toString();
+    }
+
+    private String companyRequest() {
+        return this.objectMapper.createObjectNode()
+                .put("companyName", "Company")
+                .toString();
+    }
+}
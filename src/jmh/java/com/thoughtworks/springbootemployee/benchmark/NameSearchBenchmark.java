@@ -0,0 +1,88 @@
+package com.thoughtworks.springbootemployee.benchmark;
+
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.repository.EmployeeRepository;
+import com.thoughtworks.springbootemployee.repository.MongoIndexManager;
+import com.thoughtworks.springbootemployee.service.EmployeeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NameSearchBenchmark {
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "William", "Elizabeth",
+            "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+            "Samuel", "Nancy", "Daniel", "Lisa", "Matthew", "Betty", "Anthony", "Sandra", "Mark", "Ashley"
+    };
+    private static final int LAST_NAME_COUNT = 20_000;
+    private static final int INSERT_CHUNK_SIZE = 10_000;
+
+    @Param({"100000", "1000000"})
+    public int employeeCount;
+
+    @Param({"Samuel", "Lastname1234", "sam", "Jo", "Elizabeth Lastname42"})
+    public String text;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = BenchmarkApplication.start();
+        this.employeeService = this.context.getBean(EmployeeService.class);
+
+        EmployeeRepository employeeRepository = this.context.getBean(EmployeeRepository.class);
+        for (int inserted = 0; inserted < this.employeeCount; inserted += INSERT_CHUNK_SIZE) {
+            List<Employee> employees = new ArrayList<>(INSERT_CHUNK_SIZE);
+            for (int index = inserted; index < Math.min(inserted + INSERT_CHUNK_SIZE, this.employeeCount); index++) {
+                String name = FIRST_NAMES[index % FIRST_NAMES.length] + " Lastname" + index % LAST_NAME_COUNT;
+                employees.add(new Employee(name, 20 + index % 40, index % 2 == 0 ? "Male" : "Female", 10000 + index, null));
+            }
+            employeeRepository.insert(employees);
+        }
+        this.context.getBean(MongoIndexManager.class).ensureIndexes();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.getBean(EmployeeRepository.class).deleteAll();
+        this.context.close();
+    }
+
+    @Benchmark
+    public List<Employee> indexedSearch() {
+        return this.employeeService.searchByName(this.text, 10);
+    }
+
+    @Benchmark
+    public List<Employee> findAllThenFilter() {
+        String lowerCaseText = this.text.toLowerCase();
+
+        return this.employeeService.findAll().stream()
+                .filter(employee -> employee.getName().toLowerCase().contains(lowerCaseText))
+                .limit(10)
+                .collect(Collectors.toList());
+    }
+}
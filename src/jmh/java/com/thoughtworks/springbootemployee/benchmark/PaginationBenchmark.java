@@ -0,0 +1,80 @@
+package com.thoughtworks.springbootemployee.benchmark;
+
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.repository.EmployeeRepository;
+import com.thoughtworks.springbootemployee.service.EmployeeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PaginationBenchmark {
+    private static final int EMPLOYEE_COUNT = 200_000;
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"1", "100", "1000", "2000"})
+    public int page;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+    private String lastIdOfPreviousPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = BenchmarkApplication.start();
+        this.employeeService = this.context.getBean(EmployeeService.class);
+
+        EmployeeRepository employeeRepository = this.context.getBean(EmployeeRepository.class);
+        for (int inserted = 0; inserted < EMPLOYEE_COUNT; inserted += 10_000) {
+            List<Employee> employees = new ArrayList<>();
+            for (int index = inserted; index < inserted + 10_000; index++) {
+                employees.add(new Employee("Employee" + index, 20 + index % 40, index % 2 == 0 ? "Male" : "Female", 10000 + index, null));
+            }
+            employeeRepository.insert(employees);
+        }
+
+        this.lastIdOfPreviousPage = null;
+        for (int index = 1; index < this.page; index++) {
+            List<Employee> employees = this.employeeService.findAllAfter(this.lastIdOfPreviousPage, PAGE_SIZE);
+            this.lastIdOfPreviousPage = employees.get(employees.size() - 1).getId();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.getBean(EmployeeRepository.class).deleteAll();
+        this.context.close();
+    }
+
+    @Benchmark
+    public Page<Employee> offset() {
+        return this.employeeService.findAllWithPagination(PageRequest.of(this.page - 1, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<Employee> keyset() {
+        return this.employeeService.findAllAfter(this.lastIdOfPreviousPage, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,98 @@
+package com.thoughtworks.springbootemployee.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thoughtworks.springbootemployee.dto.CompanyResponse;
+import com.thoughtworks.springbootemployee.dto.EmployeeResponse;
+import com.thoughtworks.springbootemployee.entity.Company;
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.mapper.CompanyMapper;
+import com.thoughtworks.springbootemployee.mapper.EmployeeMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseMappingBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int datasetSize;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeMapper employeeMapper;
+    private CompanyMapper companyMapper;
+    private ObjectMapper objectMapper;
+
+    private List<Employee> employees;
+    private List<Company> companies;
+    private Map<String, List<Employee>> employeesByCompanyId;
+    private List<EmployeeResponse> employeeResponses;
+    private List<CompanyResponse> companyResponses;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = BenchmarkApplication.start();
+        this.employeeMapper = this.context.getBean(EmployeeMapper.class);
+        this.companyMapper = this.context.getBean(CompanyMapper.class);
+        this.objectMapper = this.context.getBean(ObjectMapper.class);
+
+        BenchmarkDataset dataset = BenchmarkDataset.build(this.datasetSize);
+        this.employees = dataset.getEmployees();
+        this.companies = dataset.getCompanies();
+        this.employeesByCompanyId = dataset.getEmployeesByCompanyId();
+
+        this.employeeResponses = this.toEmployeeResponses();
+        this.companyResponses = this.toCompanyResponses();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> toEmployeeResponses() {
+        return this.employeeMapper.toResponse(this.employees);
+    }
+
+    @Benchmark
+    public List<CompanyResponse> toCompanyResponses() {
+        List<CompanyResponse> companyResponses = new ArrayList<>(this.companies.size());
+        for (Company company : this.companies) {
+            companyResponses.add(this.companyMapper.toResponse(company, this.employeesByCompanyId.getOrDefault(company.getId(), Collections.emptyList())));
+        }
+
+        return companyResponses;
+    }
+
+    @Benchmark
+    public byte[] serializeEmployeeResponses() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(this.employeeResponses);
+    }
+
+    @Benchmark
+    public byte[] serializeCompanyResponses() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(this.companyResponses);
+    }
+}
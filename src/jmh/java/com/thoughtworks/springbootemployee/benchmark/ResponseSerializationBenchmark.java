@@ -0,0 +1,156 @@
+package com.thoughtworks.springbootemployee.benchmark;
+
+import com.thoughtworks.springbootemployee.dto.CompanyResponse;
+import com.thoughtworks.springbootemployee.dto.EmployeeResponse;
+import com.thoughtworks.springbootemployee.entity.Company;
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.mapper.CompanyMapper;
+import com.thoughtworks.springbootemployee.mapper.EmployeeMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+    private static final int EMPLOYEE_COUNT = 10_000;
+
+    private static final Type EMPLOYEES_TYPE = new ParameterizedTypeReference<List<EmployeeResponse>>() {
+    }.getType();
+
+    private static final Type COMPANIES_TYPE = new ParameterizedTypeReference<List<CompanyResponse>>() {
+    }.getType();
+
+    @Param({"default", "performance"})
+    public String profile;
+
+    private ConfigurableApplicationContext context;
+    private MappingJackson2HttpMessageConverter converter;
+
+    private List<EmployeeResponse> employeeResponses;
+    private List<CompanyResponse> companyResponses;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WireBytes {
+        public long bytesPerOperation;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = BenchmarkApplication.start(this.profile);
+
+        this.converter = this.context.getBean(MappingJackson2HttpMessageConverter.class);
+
+        BenchmarkDataset dataset = BenchmarkDataset.build(EMPLOYEE_COUNT);
+        CompanyMapper companyMapper = this.context.getBean(CompanyMapper.class);
+        Map<String, List<Employee>> employeesByCompanyId = dataset.getEmployeesByCompanyId();
+
+        this.employeeResponses = this.context.getBean(EmployeeMapper.class).toResponse(dataset.getEmployees());
+        this.companyResponses = new ArrayList<>(dataset.getCompanies().size());
+        for (Company company : dataset.getCompanies()) {
+            this.companyResponses.add(companyMapper.toResponse(company, employeesByCompanyId.getOrDefault(company.getId(), Collections.emptyList())));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public byte[] serializeEmployees(WireBytes wireBytes) throws IOException {
+        byte[] body = this.write(this.employeeResponses, EMPLOYEES_TYPE, false);
+
+        wireBytes.bytesPerOperation = body.length;
+
+        return body;
+    }
+
+    @Benchmark
+    public byte[] serializeEmployeesGzip(WireBytes wireBytes) throws IOException {
+        byte[] body = this.write(this.employeeResponses, EMPLOYEES_TYPE, true);
+
+        wireBytes.bytesPerOperation = body.length;
+
+        return body;
+    }
+
+    @Benchmark
+    public byte[] serializeCompanies(WireBytes wireBytes) throws IOException {
+        byte[] body = this.write(this.companyResponses, COMPANIES_TYPE, false);
+
+        wireBytes.bytesPerOperation = body.length;
+
+        return body;
+    }
+
+    @Benchmark
+    public byte[] serializeCompaniesGzip(WireBytes wireBytes) throws IOException {
+        byte[] body = this.write(this.companyResponses, COMPANIES_TYPE, true);
+
+        wireBytes.bytesPerOperation = body.length;
+
+        return body;
+    }
+
+    private byte[] write(Object value, Type type, boolean gzip) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (OutputStream outputStream = gzip ? new GZIPOutputStream(body) : body) {
+            this.converter.write(value, type, MediaType.APPLICATION_JSON, new BodyMessage(outputStream));
+        }
+
+        return body.toByteArray();
+    }
+
+    private static final class BodyMessage implements HttpOutputMessage {
+        private final HttpHeaders headers = new HttpHeaders();
+        private final OutputStream body;
+
+        private BodyMessage(OutputStream body) {
+            this.body = body;
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return this.body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return this.headers;
+        }
+    }
+}
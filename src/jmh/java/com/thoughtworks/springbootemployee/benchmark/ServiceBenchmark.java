@@ -0,0 +1,104 @@
+package com.thoughtworks.springbootemployee.benchmark;
+
+import com.thoughtworks.springbootemployee.entity.Company;
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.exception.CompanyNotFoundException;
+import com.thoughtworks.springbootemployee.exception.EmployeeNotFoundException;
+import com.thoughtworks.springbootemployee.service.CompanyService;
+import com.thoughtworks.springbootemployee.service.EmployeeService;
+import com.thoughtworks.springbootemployee.statistics.EmployeeStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    @Param({"1000", "100000"})
+    public int datasetSize;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+    private CompanyService companyService;
+    private Employee employee;
+    private Company company;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = BenchmarkApplication.start();
+        this.employeeService = this.context.getBean(EmployeeService.class);
+        this.companyService = this.context.getBean(CompanyService.class);
+
+        BenchmarkDataset dataset = BenchmarkDataset.seed(this.context, this.datasetSize);
+        this.employee = dataset.getEmployees().get(this.datasetSize / 2);
+        this.company = dataset.getCompanies().get(dataset.getCompanies().size() / 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkDataset.clear(this.context);
+        this.context.close();
+    }
+
+    @Benchmark
+    public Employee findEmployeeById() throws EmployeeNotFoundException {
+        return this.employeeService.findEmployeeById(this.employee.getId());
+    }
+
+    @Benchmark
+    public List<Employee> findEmployeesPage() {
+        return this.employeeService.findAll(FIRST_PAGE, null);
+    }
+
+    @Benchmark
+    public List<EmployeeStats> findEmployeeStatsByGender() {
+        return this.employeeService.findStats("gender");
+    }
+
+    @Benchmark
+    public Employee replaceEmployee() throws EmployeeNotFoundException, CompanyNotFoundException {
+        return this.employeeService.replace(this.employee.getId(), this.employee);
+    }
+
+    @Benchmark
+    public Company findCompanyById() throws CompanyNotFoundException {
+        return this.companyService.findCompanyById(this.company.getId());
+    }
+
+    @Benchmark
+    public List<Company> findCompaniesPage() {
+        return this.companyService.findAll(FIRST_PAGE, null);
+    }
+
+    @Benchmark
+    public List<Employee> findCompanyEmployeesById() throws CompanyNotFoundException {
+        return this.companyService.findCompanyEmployeesById(this.company.getId()).getItems();
+    }
+
+    @Benchmark
+    public EmployeeStats findCompanyStatsById() throws CompanyNotFoundException {
+        return this.companyService.findCompanyStatsById(this.company.getId());
+    }
+}
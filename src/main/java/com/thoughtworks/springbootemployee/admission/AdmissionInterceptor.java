@@ -0,0 +1,131 @@
+package com.thoughtworks.springbootemployee.admission;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.thoughtworks.springbootemployee.exception.AdmissionRejectedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Profile("!reactive")
+public class AdmissionInterceptor implements AsyncHandlerInterceptor, WebMvcConfigurer {
+    public static final String SHED_COUNTER = "http.server.requests.shed";
+
+    private static final String ADMITTED_ATTRIBUTE = AdmissionInterceptor.class.getName() + ".admitted";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    @Autowired
+    private AdmissionPolicy admissionPolicy;
+
+    @Autowired
+    private ClientIdentity clientIdentity;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Cache<String, TokenBucket> buckets = Caffeine.newBuilder()
+            .expireAfterAccess(10, TimeUnit.MINUTES)
+            .maximumSize(100_000)
+            .build();
+
+    private final Map<String, TokenBucket> endpointBuckets = new ConcurrentHashMap<>();
+
+    private final Map<String, Semaphore> inFlight = new ConcurrentHashMap<>();
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(this);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!this.admissionPolicy.isEnabled()
+                || request.getDispatcherType() == DispatcherType.ERROR
+                || request.getAttribute(ADMITTED_ATTRIBUTE) != null) {
+            return true;
+        }
+
+        String uri = uriOf(request);
+        String endpoint = request.getMethod() + " " + uri;
+
+        double cost = this.admissionPolicy.costOf(endpoint, request.getParameterMap());
+
+        TokenBucket bucket = this.buckets.get(this.clientOf(request) + " " + endpoint,
+                key -> new TokenBucket(this.admissionPolicy.getBucketCapacity(), this.admissionPolicy.getRefillPerSecond(), System.nanoTime()));
+        long waitNanos = bucket.tryConsume(cost, System.nanoTime());
+        if (waitNanos > 0) {
+            this.shed(request.getMethod(), uri, "rate_limited");
+            throw new AdmissionRejectedException(HttpStatus.TOO_MANY_REQUESTS, secondsOf(waitNanos), "Rate limit exceeded for " + endpoint + ".");
+        }
+
+        TokenBucket endpointBucket = this.endpointBuckets.computeIfAbsent(endpoint,
+                key -> new TokenBucket(this.admissionPolicy.getEndpointBucketCapacity(), this.admissionPolicy.getEndpointRefillPerSecond(), System.nanoTime()));
+        waitNanos = endpointBucket.tryConsume(cost, System.nanoTime());
+        if (waitNanos > 0) {
+            // the request never ran, so the caller keeps the tokens it was charged
+            bucket.refund(cost);
+            this.shed(request.getMethod(), uri, "endpoint_rate_limited");
+            throw new AdmissionRejectedException(HttpStatus.TOO_MANY_REQUESTS, secondsOf(waitNanos), "Rate limit exceeded for " + endpoint + " across all clients.");
+        }
+
+        int maxConcurrent = this.admissionPolicy.maxConcurrentOf(endpoint);
+        if (maxConcurrent != AdmissionPolicy.UNLIMITED) {
+            Semaphore permits = this.inFlight.computeIfAbsent(endpoint, key -> new Semaphore(maxConcurrent));
+            if (!permits.tryAcquire()) {
+                this.shed(request.getMethod(), uri, "overloaded");
+                throw new AdmissionRejectedException(HttpStatus.SERVICE_UNAVAILABLE, this.admissionPolicy.getOverloadRetryAfterSeconds(), endpoint + " is overloaded.");
+            }
+            request.setAttribute(ADMITTED_ATTRIBUTE, permits);
+        } else {
+            request.setAttribute(ADMITTED_ATTRIBUTE, Boolean.TRUE);
+        }
+
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception exception) {
+        Object admitted = request.getAttribute(ADMITTED_ATTRIBUTE);
+        request.removeAttribute(ADMITTED_ATTRIBUTE);
+
+        if (admitted instanceof Semaphore) {
+            ((Semaphore) admitted).release();
+        }
+    }
+
+    private void shed(String method, String uri, String reason) {
+        this.meterRegistry.counter(SHED_COUNTER, "method", method, "uri", uri, "reason", reason).increment();
+    }
+
+    private String clientOf(HttpServletRequest request) {
+        String client = this.clientIdentity.trustedClientOf(request);
+
+        return client == null ? "address:" + request.getRemoteAddr() : "client:" + client;
+    }
+
+    private static String uriOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        return pattern == null ? UNKNOWN_URI : pattern.toString();
+    }
+
+    private static long secondsOf(long nanos) {
+        return Math.max(1, (long) Math.ceil(nanos / (double) TimeUnit.SECONDS.toNanos(1)));
+    }
+}
@@ -0,0 +1,175 @@
+package com.thoughtworks.springbootemployee.admission;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "admission")
+public class AdmissionPolicy {
+    public static final int UNLIMITED = -1;
+
+    private boolean enabled;
+
+    private String clientHeader = "X-Client-Id";
+
+    private List<String> trustedProxies = new ArrayList<>();
+
+    private double bucketCapacity = 100;
+
+    private double refillPerSecond = 50;
+
+    private double endpointBucketCapacity = 2000;
+
+    private double endpointRefillPerSecond = 1000;
+
+    private double defaultCost = 1;
+
+    private Map<String, Double> costs = new HashMap<>();
+
+    private double pagedCost = 1;
+
+    private List<String> pagingParameters = Arrays.asList("page", "pageSize", "limit", "after");
+
+    private int defaultMaxConcurrent = UNLIMITED;
+
+    private Map<String, Integer> maxConcurrent = new HashMap<>();
+
+    private long overloadRetryAfterSeconds = 1;
+
+    public double costOf(String endpoint, Map<String, String[]> parameters) {
+        if (!this.costs.containsKey(endpoint)) {
+            return this.defaultCost;
+        }
+        if (this.pagingParameters.stream().anyMatch(parameters::containsKey)) {
+            return this.pagedCost;
+        }
+
+        return this.costs.get(endpoint);
+    }
+
+    public boolean isTrustedProxy(String remoteAddress) {
+        return this.trustedProxies.contains(remoteAddress);
+    }
+
+    public int maxConcurrentOf(String endpoint) {
+        return this.maxConcurrent.getOrDefault(endpoint, this.defaultMaxConcurrent);
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getClientHeader() {
+        return this.clientHeader;
+    }
+
+    public void setClientHeader(String clientHeader) {
+        this.clientHeader = clientHeader;
+    }
+
+    public List<String> getTrustedProxies() {
+        return this.trustedProxies;
+    }
+
+    public void setTrustedProxies(List<String> trustedProxies) {
+        this.trustedProxies = trustedProxies;
+    }
+
+    public double getBucketCapacity() {
+        return this.bucketCapacity;
+    }
+
+    public void setBucketCapacity(double bucketCapacity) {
+        this.bucketCapacity = bucketCapacity;
+    }
+
+    public double getRefillPerSecond() {
+        return this.refillPerSecond;
+    }
+
+    public void setRefillPerSecond(double refillPerSecond) {
+        this.refillPerSecond = refillPerSecond;
+    }
+
+    public double getEndpointBucketCapacity() {
+        return this.endpointBucketCapacity;
+    }
+
+    public void setEndpointBucketCapacity(double endpointBucketCapacity) {
+        this.endpointBucketCapacity = endpointBucketCapacity;
+    }
+
+    public double getEndpointRefillPerSecond() {
+        return this.endpointRefillPerSecond;
+    }
+
+    public void setEndpointRefillPerSecond(double endpointRefillPerSecond) {
+        this.endpointRefillPerSecond = endpointRefillPerSecond;
+    }
+
+    public double getDefaultCost() {
+        return this.defaultCost;
+    }
+
+    public void setDefaultCost(double defaultCost) {
+        this.defaultCost = defaultCost;
+    }
+
+    public Map<String, Double> getCosts() {
+        return this.costs;
+    }
+
+    public void setCosts(Map<String, Double> costs) {
+        this.costs = costs;
+    }
+
+    public double getPagedCost() {
+        return this.pagedCost;
+    }
+
+    public void setPagedCost(double pagedCost) {
+        this.pagedCost = pagedCost;
+    }
+
+    public List<String> getPagingParameters() {
+        return this.pagingParameters;
+    }
+
+    public void setPagingParameters(List<String> pagingParameters) {
+        this.pagingParameters = pagingParameters;
+    }
+
+    public int getDefaultMaxConcurrent() {
+        return this.defaultMaxConcurrent;
+    }
+
+    public void setDefaultMaxConcurrent(int defaultMaxConcurrent) {
+        this.defaultMaxConcurrent = defaultMaxConcurrent;
+    }
+
+    public Map<String, Integer> getMaxConcurrent() {
+        return this.maxConcurrent;
+    }
+
+    public void setMaxConcurrent(Map<String, Integer> maxConcurrent) {
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    public long getOverloadRetryAfterSeconds() {
+        return this.overloadRetryAfterSeconds;
+    }
+
+    public void setOverloadRetryAfterSeconds(long overloadRetryAfterSeconds) {
+        this.overloadRetryAfterSeconds = overloadRetryAfterSeconds;
+    }
+}
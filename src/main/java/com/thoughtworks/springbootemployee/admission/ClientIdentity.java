@@ -0,0 +1,27 @@
+package com.thoughtworks.springbootemployee.admission;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+
+@Component
+public class ClientIdentity {
+    @Autowired
+    private AdmissionPolicy admissionPolicy;
+
+    public String trustedClientOf(HttpServletRequest request) {
+        if (request.getUserPrincipal() != null) {
+            return request.getUserPrincipal().getName();
+        }
+
+        if (this.admissionPolicy.isTrustedProxy(request.getRemoteAddr())) {
+            String client = request.getHeader(this.admissionPolicy.getClientHeader());
+            if (client != null && !client.isEmpty()) {
+                return client;
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,35 @@
+package com.thoughtworks.springbootemployee.admission;
+
+import java.util.concurrent.TimeUnit;
+
+final class TokenBucket {
+    private final double capacity;
+    private final double refillPerNano;
+
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(double capacity, double refillPerSecond, long now) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.tokens = capacity;
+        this.refilledAt = now;
+    }
+
+    synchronized long tryConsume(double cost, long now) {
+        this.tokens = Math.min(this.capacity, this.tokens + (now - this.refilledAt) * this.refillPerNano);
+        this.refilledAt = now;
+
+        double required = Math.min(cost, this.capacity);
+        if (this.tokens >= required) {
+            this.tokens -= required;
+            return 0;
+        }
+
+        return (long) Math.ceil((required - this.tokens) / this.refillPerNano);
+    }
+
+    synchronized void refund(double cost) {
+        this.tokens = Math.min(this.capacity, this.tokens + Math.min(cost, this.capacity));
+    }
+}
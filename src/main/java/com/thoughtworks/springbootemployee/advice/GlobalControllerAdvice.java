@@ -1,9 +1,14 @@
 package com.thoughtworks.springbootemployee.advice;
 
+import com.thoughtworks.springbootemployee.exception.AdmissionRejectedException;
 import com.thoughtworks.springbootemployee.exception.CompanyNotFoundException;
 import com.thoughtworks.springbootemployee.exception.EmployeeNotFoundException;
+import com.thoughtworks.springbootemployee.exception.EmployeeWriteBehindRejectedException;
+import com.thoughtworks.springbootemployee.exception.ExportNotAllowedException;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -33,4 +38,23 @@ public class GlobalControllerAdvice {
     public ErrorResponse handleDuplicateKey(DuplicateKeyException exception) {
         return new ErrorResponse(HttpStatus.CONFLICT.name(), exception.getMessage());
     }
+
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler({EmployeeWriteBehindRejectedException.class})
+    public ErrorResponse handleEmployeeWriteBehindRejected(EmployeeWriteBehindRejectedException exception) {
+        return new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.name(), exception.getMessage());
+    }
+
+    @ResponseStatus(HttpStatus.FORBIDDEN)
+    @ExceptionHandler({ExportNotAllowedException.class})
+    public ErrorResponse handleExportNotAllowed(ExportNotAllowedException exception) {
+        return new ErrorResponse(HttpStatus.FORBIDDEN.name(), exception.getMessage());
+    }
+
+    @ExceptionHandler({AdmissionRejectedException.class})
+    public ResponseEntity<ErrorResponse> handleAdmissionRejected(AdmissionRejectedException exception) {
+        return ResponseEntity.status(exception.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()))
+                .body(new ErrorResponse(exception.getStatus().name(), exception.getMessage()));
+    }
 }
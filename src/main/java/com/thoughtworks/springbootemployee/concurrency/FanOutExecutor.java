@@ -0,0 +1,147 @@
+package com.thoughtworks.springbootemployee.concurrency;
+
+import com.thoughtworks.springbootemployee.metrics.MongoCommandCounter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class FanOutExecutor implements InitializingBean, DisposableBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FanOutExecutor.class);
+
+    @Value("${fan-out.enabled:false}")
+    private boolean enabled;
+
+    @Value("${fan-out.virtual-threads:true}")
+    private boolean virtualThreads;
+
+    @Value("${fan-out.max-concurrency:16}")
+    private int maxConcurrency;
+
+    @Value("${fan-out.per-request-concurrency:4}")
+    private int perRequestConcurrency;
+
+    @Value("${fan-out.permit-timeout:50}")
+    private long permitTimeout;
+
+    private ExecutorService executor;
+
+    private Semaphore permits;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!this.enabled) {
+            return;
+        }
+
+        this.permits = new Semaphore(this.maxConcurrency);
+        this.executor = this.virtualThreads ? newVirtualThreadPerTaskExecutor() : null;
+
+        if (this.executor == null) {
+            AtomicInteger threads = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(this.maxConcurrency, runnable -> {
+                Thread thread = new Thread(runnable, "fan-out-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            LOGGER.info("Fan-out runs on virtual threads.");
+        }
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public <T, R> List<R> map(List<T> inputs, Function<T, R> task) {
+        if (!this.enabled || inputs.size() < 2) {
+            return inputs.stream().map(task).collect(Collectors.toList());
+        }
+
+        Semaphore requestPermits = new Semaphore(this.perRequestConcurrency);
+        AtomicInteger commands = MongoCommandCounter.current();
+        List<CompletableFuture<R>> results = new ArrayList<>(inputs.size());
+
+        for (T input : inputs) {
+            requestPermits.acquireUninterruptibly();
+            if (!this.tryAcquirePermit()) {
+                // every pooled slot is taken by other requests, so this input runs on the calling thread instead of queueing behind them
+                requestPermits.release();
+                results.add(CompletableFuture.completedFuture(task.apply(input)));
+                continue;
+            }
+
+            try {
+                results.add(CompletableFuture.supplyAsync(() -> run(task, input, commands), this.executor)
+                        .whenComplete((result, exception) -> {
+                            this.permits.release();
+                            requestPermits.release();
+                        }));
+            } catch (RejectedExecutionException exception) {
+                this.permits.release();
+                requestPermits.release();
+                throw exception;
+            }
+        }
+
+        try {
+            return results.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList());
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw exception;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (this.executor != null) {
+            this.executor.shutdown();
+        }
+    }
+
+    private boolean tryAcquirePermit() {
+        try {
+            return this.permits.tryAcquire(this.permitTimeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static <T, R> R run(Function<T, R> task, T input, AtomicInteger commands) {
+        MongoCommandCounter.attach(commands);
+        try {
+            return task.apply(input);
+        } finally {
+            MongoCommandCounter.detach();
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException exception) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.thoughtworks.springbootemployee.conditional;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public final class EntityTags {
+    public static final Set<String> VERSION_FIELDS = Collections.singleton("version");
+
+    private EntityTags() {
+    }
+
+    public static String of(String id, Long version, Object... representation) {
+        return of(Collections.singletonList(versionedId(id, version)), representation);
+    }
+
+    public static String of(List<String> versionedIds, Object... representation) {
+        StringBuilder source = new StringBuilder();
+        versionedIds.forEach(versionedId -> source.append(versionedId).append(';'));
+        for (Object part : representation) {
+            source.append('|').append(part);
+        }
+
+        return "\"" + DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    public static Set<String> withVersion(Set<String> selectedFields) {
+        if (selectedFields == null) {
+            return null;
+        }
+
+        Set<String> fields = new LinkedHashSet<>(selectedFields);
+        fields.addAll(VERSION_FIELDS);
+
+        return fields;
+    }
+
+    public static String versionedId(String id, Long version) {
+        return id + ":" + (version == null ? 0L : version);
+    }
+}
@@ -1,18 +1,27 @@
 package com.thoughtworks.springbootemployee.controller;
 
+import com.thoughtworks.springbootemployee.conditional.EntityTags;
 import com.thoughtworks.springbootemployee.dto.CompanyRequest;
 import com.thoughtworks.springbootemployee.dto.CompanyResponse;
 import com.thoughtworks.springbootemployee.dto.EmployeeResponse;
+import com.thoughtworks.springbootemployee.dto.EmployeeStatsResponse;
 import com.thoughtworks.springbootemployee.entity.Company;
+import com.thoughtworks.springbootemployee.entity.Employee;
 import com.thoughtworks.springbootemployee.exception.CompanyNotFoundException;
 import com.thoughtworks.springbootemployee.mapper.CompanyMapper;
 import com.thoughtworks.springbootemployee.mapper.EmployeeMapper;
+import com.thoughtworks.springbootemployee.pagination.KeysetCursor;
+import com.thoughtworks.springbootemployee.pagination.LimitedList;
+import com.thoughtworks.springbootemployee.repository.CascadePolicy;
 import com.thoughtworks.springbootemployee.service.CompanyService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -23,12 +32,20 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/companies")
 public class CompanyController {
+    public static final String AFFECTED_EMPLOYEES_HEADER = "X-Affected-Employees";
+
     @Autowired
     private CompanyService companyService;
 
@@ -38,33 +55,125 @@ public class CompanyController {
     @Autowired
     private EmployeeMapper employeeMapper;
 
+    @Value("${company.delete.cascade:none}")
+    private String defaultCascade;
+
+    @Value("${company.delete.reassign-to:#{null}}")
+    private String defaultReassignTo;
+
     @GetMapping
-    public List<CompanyResponse> getAll() {
-        return this.companyMapper.toResponse(this.companyService.findAll());
+    public ResponseEntity<List<CompanyResponse>> getAll(
+        @RequestParam(required = false) String fields,
+        @RequestParam(required = false) String embed
+    ) {
+        Set<String> selectedFields = this.companyMapper.toFields(fields, embed);
+        LimitedList<Company> companies = this.companyService.findAll(selectedFields);
+
+        List<CompanyResponse> companyResponses = this.companyMapper.toResponse(companies.getItems(), selectedFields);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().headers(companies.toHeaders());
+        if (companies.isTruncated()) {
+            response.header(KeysetCursor.NEXT_CURSOR_HEADER, KeysetCursor.encode(companies.getLast().getId()));
+        }
+
+        return response.headers(embeddedHeaders(companyResponses)).body(companyResponses);
     }
 
     @GetMapping(params = {
             "page",
             "pageSize"
     })
-    public List<CompanyResponse> getAllWithPagination(
+    public ResponseEntity<List<CompanyResponse>> getAllWithPagination(
         @RequestParam(required = false) Integer page,
-        @RequestParam(required = false) Integer pageSize
+        @RequestParam(required = false) Integer pageSize,
+        @RequestParam(required = false) String fields,
+        @RequestParam(required = false) String embed,
+        WebRequest webRequest
     ) {
         Pageable pageable = PageRequest.of((page > 0 ? page - 1 : 0), pageSize);
-        Page<Company> companyPage = this.companyService.findAllWithPagination(pageable);
+        Set<String> selectedFields = this.companyMapper.toFields(fields, embed);
+
+        List<Company> companies = this.companyService.findAll(pageable, EntityTags.withVersion(selectedFields));
+        Map<String, LimitedList<Employee>> employeesByCompanyId = this.companyMapper.findEmbeddedEmployees(companies, selectedFields);
+        if (webRequest.checkNotModified(entityTagOf(companies, employeesByCompanyId, selectedFields))) {
+            return null;
+        }
+
+        List<CompanyResponse> companyResponses = this.companyMapper.toResponse(companies, employeesByCompanyId, selectedFields);
+
+        return ResponseEntity.ok().headers(embeddedHeaders(companyResponses)).body(companyResponses);
+    }
+
+    @GetMapping(params = {
+            "limit"
+    })
+    public ResponseEntity<List<CompanyResponse>> getAllWithKeyset(
+        @RequestParam(required = false) String after,
+        @RequestParam Integer limit,
+        @RequestParam(required = false) String fields,
+        @RequestParam(required = false) String embed
+    ) {
+        Set<String> selectedFields = this.companyMapper.toFields(fields, embed);
+        List<Company> companies = this.companyService.findAllAfter(KeysetCursor.decode(after), limit, selectedFields);
+
+        List<CompanyResponse> companyResponses = this.companyMapper.toResponse(companies, selectedFields);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (companies.size() == limit) {
+            response.header(KeysetCursor.NEXT_CURSOR_HEADER, KeysetCursor.encode(companies.get(companies.size() - 1).getId()));
+        }
+
+        return response.headers(embeddedHeaders(companyResponses)).body(companyResponses);
+    }
+
+    @GetMapping(value = "/search", params = {
+            "q"
+    })
+    public ResponseEntity<List<CompanyResponse>> searchByName(
+        @RequestParam String q,
+        @RequestParam(required = false) Integer limit,
+        @RequestParam(required = false) String fields,
+        @RequestParam(required = false) String embed
+    ) {
+        Set<String> selectedFields = this.companyMapper.toFields(fields, embed);
+
+        List<CompanyResponse> companyResponses = this.companyMapper.toResponse(this.companyService.searchByName(q, limit), selectedFields);
 
-        return this.companyMapper.toResponse(companyPage.getContent());
+        return ResponseEntity.ok().headers(embeddedHeaders(companyResponses)).body(companyResponses);
     }
 
     @GetMapping("/{id}")
-    public CompanyResponse getOne(@PathVariable String id) throws CompanyNotFoundException {
-        return this.companyMapper.toResponse(this.companyService.findCompanyById(id));
+    public ResponseEntity<CompanyResponse> getOne(
+        @PathVariable String id,
+        @RequestParam(required = false) String fields,
+        @RequestParam(required = false) String embed,
+        WebRequest webRequest
+    ) throws CompanyNotFoundException {
+        Set<String> selectedFields = this.companyMapper.toFields(fields, embed);
+
+        List<Company> companies = Collections.singletonList(this.companyService.findCompanyById(id));
+        Map<String, LimitedList<Employee>> employeesByCompanyId = this.companyMapper.findEmbeddedEmployees(companies, selectedFields);
+        if (webRequest.checkNotModified(entityTagOf(companies, employeesByCompanyId, selectedFields))) {
+            return null;
+        }
+
+        CompanyResponse companyResponse = this.companyMapper.toResponse(companies, employeesByCompanyId, selectedFields).get(0);
+
+        return ResponseEntity.ok().headers(embeddedHeaders(Collections.singletonList(companyResponse))).body(companyResponse);
     }
 
     @GetMapping("/{id}/employees")
-    public List<EmployeeResponse> getEmployees(@PathVariable String id) throws CompanyNotFoundException {
-        return this.employeeMapper.toResponse(this.companyService.findCompanyEmployeesById(id));
+    public ResponseEntity<List<EmployeeResponse>> getEmployees(@PathVariable String id) throws CompanyNotFoundException {
+        LimitedList<Employee> employees = this.companyService.findCompanyEmployeesById(id);
+
+        return ResponseEntity.ok()
+                .headers(employees.toHeaders())
+                .body(this.employeeMapper.toResponse(employees.getItems()));
+    }
+
+    @GetMapping("/{id}/stats")
+    public EmployeeStatsResponse getStats(@PathVariable String id) throws CompanyNotFoundException {
+        return this.employeeMapper.toStatsResponse(this.companyService.findCompanyStatsById(id));
     }
 
     @PostMapping
@@ -79,8 +188,37 @@ public class CompanyController {
     }
 
     @DeleteMapping("/{id}")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void delete(@PathVariable String id) throws CompanyNotFoundException {
-        this.companyService.delete(id);
+    public ResponseEntity<Void> delete(
+            @PathVariable String id,
+            @RequestParam(required = false) String cascade,
+            @RequestParam(required = false) String reassignTo
+    ) throws CompanyNotFoundException {
+        long affected = this.companyService.delete(
+                id,
+                CascadePolicy.parse(cascade == null ? this.defaultCascade : cascade),
+                reassignTo == null ? this.defaultReassignTo : reassignTo
+        );
+
+        return ResponseEntity.noContent()
+                .header(AFFECTED_EMPLOYEES_HEADER, String.valueOf(affected))
+                .build();
+    }
+
+    private static String entityTagOf(List<Company> companies, Map<String, LimitedList<Employee>> employeesByCompanyId, Set<String> selectedFields) {
+        List<String> versionedIds = new ArrayList<>();
+        companies.forEach(company -> {
+            versionedIds.add(EntityTags.versionedId(company.getId(), company.getVersion()));
+            employeesByCompanyId.getOrDefault(company.getId(), LimitedList.of(Collections.emptyList(), 0)).getItems()
+                    .forEach(employee -> versionedIds.add(EntityTags.versionedId(employee.getId(), employee.getVersion())));
+        });
+
+        return EntityTags.of(versionedIds, selectedFields);
+    }
+
+    private static HttpHeaders embeddedHeaders(List<CompanyResponse> companyResponses) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(LimitedList.EMBEDDED_TRUNCATED_HEADER, String.valueOf(CompanyMapper.isAnyEmbeddedTruncated(companyResponses)));
+
+        return headers;
     }
 }
@@ -1,17 +1,37 @@
 package com.thoughtworks.springbootemployee.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.thoughtworks.springbootemployee.admission.ClientIdentity;
+import com.thoughtworks.springbootemployee.conditional.EntityTags;
+import com.thoughtworks.springbootemployee.dto.EmployeeAcceptedResponse;
+import com.thoughtworks.springbootemployee.dto.EmployeeBulkRequest;
+import com.thoughtworks.springbootemployee.dto.EmployeeBulkResponse;
 import com.thoughtworks.springbootemployee.dto.EmployeeRequest;
 import com.thoughtworks.springbootemployee.dto.EmployeeResponse;
+import com.thoughtworks.springbootemployee.dto.EmployeeStatsResponse;
+import com.thoughtworks.springbootemployee.dto.EmployeeWriteBehindStatusResponse;
 import com.thoughtworks.springbootemployee.entity.Employee;
 import com.thoughtworks.springbootemployee.exception.CompanyNotFoundException;
 import com.thoughtworks.springbootemployee.exception.EmployeeNotFoundException;
+import com.thoughtworks.springbootemployee.search.EmployeeSearchCriteria;
+import com.thoughtworks.springbootemployee.search.SearchCursor;
 import com.thoughtworks.springbootemployee.service.EmployeeService;
+import com.thoughtworks.springbootemployee.service.EmployeeWriteBehindQueue;
 import com.thoughtworks.springbootemployee.mapper.EmployeeMapper;
+import com.thoughtworks.springbootemployee.pagination.KeysetCursor;
+import com.thoughtworks.springbootemployee.pagination.LimitedList;
+import com.thoughtworks.springbootemployee.projection.FieldSelection;
+import com.thoughtworks.springbootemployee.serialization.ResponseWriters;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.util.CloseableIterator;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -22,44 +42,182 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/employees")
 public class EmployeeController {
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
     @Autowired
     private EmployeeService employeeService;
 
+    @Autowired
+    private EmployeeWriteBehindQueue employeeWriteBehindQueue;
+
     @Autowired
     private EmployeeMapper employeeMapper;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired(required = false)
+    private ResponseWriters responseWriters;
+
+    @Autowired
+    private ClientIdentity clientIdentity;
+
     @GetMapping
-    public List<EmployeeResponse> getAll() {
-        return this.employeeMapper.toResponse(this.employeeService.findAll());
+    public ResponseEntity<List<EmployeeResponse>> getAll(@RequestParam(required = false) String fields) {
+        Set<String> selectedFields = FieldSelection.parse(fields, EmployeeMapper.RESPONSE_FIELDS);
+        LimitedList<Employee> employees = this.employeeService.findAll(selectedFields);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().headers(employees.toHeaders());
+        if (employees.isTruncated()) {
+            response.header(KeysetCursor.NEXT_CURSOR_HEADER, KeysetCursor.encode(employees.getLast().getId()));
+        }
+
+        return response.body(this.employeeMapper.toResponse(employees.getItems()));
+    }
+
+    @GetMapping(produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll(HttpServletRequest request) {
+        this.employeeService.checkExportAllowed(this.clientIdentity.trustedClientOf(request));
+
+        ObjectWriter employeeWriter = this.responseWriters == null ? this.objectMapper.writerFor(EmployeeResponse.class) : this.responseWriters.getEmployeeWriter();
+
+        StreamingResponseBody body = outputStream -> {
+            try (CloseableIterator<Employee> employees = this.employeeService.streamAll()) {
+                while (employees.hasNext()) {
+                    outputStream.write(employeeWriter.writeValueAsBytes(this.employeeMapper.toResponse(employees.next())));
+                    outputStream.write('\n');
+                }
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+
+    @GetMapping(params = {
+            "stream=true"
+    })
+    public ResponseEntity<StreamingResponseBody> streamAllByParam(HttpServletRequest request) {
+        return this.streamAll(request);
     }
 
     @GetMapping(params = {
             "gender"
     })
-    public List<EmployeeResponse> getAllByGender(@RequestParam String gender) {
-        return this.employeeMapper.toResponse(this.employeeService.findAllByGender(gender));
+    public ResponseEntity<List<EmployeeResponse>> getAllByGender(@RequestParam String gender) {
+        LimitedList<Employee> employees = this.employeeService.findAllByGender(gender);
+
+        return ResponseEntity.ok()
+                .headers(employees.toHeaders())
+                .body(this.employeeMapper.toResponse(employees.getItems()));
     }
 
     @GetMapping(params = {
             "page",
             "pageSize"
     })
-    public List<EmployeeResponse> getAllWithPagination(@RequestParam Integer page, @RequestParam Integer pageSize) {
+    public List<EmployeeResponse> getAllWithPagination(
+        @RequestParam Integer page,
+        @RequestParam Integer pageSize,
+        @RequestParam(required = false) String fields,
+        WebRequest webRequest
+    ) {
         Pageable pageable = PageRequest.of((page > 0 ? page - 1 : 0), pageSize);
-        Page<Employee> employees = this.employeeService.findAllWithPagination(pageable);
+        Set<String> selectedFields = FieldSelection.parse(fields, EmployeeMapper.RESPONSE_FIELDS);
+
+        List<String> versionedIds = this.employeeService.findAll(pageable, EntityTags.VERSION_FIELDS).stream()
+                .map(employee -> EntityTags.versionedId(employee.getId(), employee.getVersion()))
+                .collect(Collectors.toList());
+        if (webRequest.checkNotModified(EntityTags.of(versionedIds, selectedFields))) {
+            return null;
+        }
+
+        return this.employeeMapper.toResponse(this.employeeService.findAll(pageable, selectedFields));
+    }
+
+    @GetMapping(params = {
+            "limit"
+    })
+    public ResponseEntity<List<EmployeeResponse>> getAllWithKeyset(
+        @RequestParam(required = false) String after,
+        @RequestParam Integer limit,
+        @RequestParam(required = false) String fields
+    ) {
+        Set<String> selectedFields = FieldSelection.parse(fields, EmployeeMapper.RESPONSE_FIELDS);
+        List<Employee> employees = this.employeeService.findAllAfter(KeysetCursor.decode(after), limit, selectedFields);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (employees.size() == limit) {
+            response.header(KeysetCursor.NEXT_CURSOR_HEADER, KeysetCursor.encode(employees.get(employees.size() - 1).getId()));
+        }
 
-        return this.employeeMapper.toResponse(employees.getContent());
+        return response.body(this.employeeMapper.toResponse(employees));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<EmployeeResponse>> search(EmployeeSearchCriteria criteria, @RequestParam(required = false) String fields) {
+        Set<String> selectedFields = FieldSelection.parse(fields, EmployeeMapper.RESPONSE_FIELDS);
+        List<Employee> employees = this.employeeService.search(criteria, selectedFields);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (criteria.isKeyset() && employees.size() == criteria.getLimit()) {
+            response.header(KeysetCursor.NEXT_CURSOR_HEADER, SearchCursor.encode(employees.get(employees.size() - 1), criteria.getSortField()));
+        }
+
+        return response.body(this.employeeMapper.toResponse(employees, selectedFields));
+    }
+
+    @GetMapping(value = "/search", params = {
+            "q"
+    })
+    public List<EmployeeResponse> searchByName(
+        @RequestParam String q,
+        @RequestParam(required = false) Integer limit,
+        @RequestParam(required = false) String fields
+    ) {
+        Set<String> selectedFields = FieldSelection.parse(fields, EmployeeMapper.RESPONSE_FIELDS);
+
+        return this.employeeMapper.toResponse(this.employeeService.searchByName(q, limit), selectedFields);
+    }
+
+    @GetMapping("/stats")
+    public List<EmployeeStatsResponse> getStats(@RequestParam(required = false) String groupBy) {
+        return this.employeeMapper.toStatsResponse(this.employeeService.findStats(groupBy));
     }
 
     @GetMapping("/{id}")
-    public EmployeeResponse getOne(@PathVariable String id) throws EmployeeNotFoundException {
-        return this.employeeMapper.toResponse(this.employeeService.findEmployeeById(id));
+    public EmployeeResponse getOne(
+        @PathVariable String id,
+        @RequestParam(required = false) String fields,
+        WebRequest webRequest
+    ) throws EmployeeNotFoundException {
+        Set<String> selectedFields = FieldSelection.parse(fields, EmployeeMapper.RESPONSE_FIELDS);
+
+        if (webRequest.checkNotModified(EntityTags.of(id, this.employeeService.findVersionById(id), selectedFields))) {
+            return null;
+        }
+
+        return this.employeeMapper.toResponse(this.employeeService.findEmployeeById(id), selectedFields);
     }
 
     @PostMapping
@@ -69,6 +227,45 @@ public class EmployeeController {
 
     }
 
+    @PostMapping("/async")
+    public ResponseEntity<EmployeeAcceptedResponse> addAsync(@RequestBody EmployeeRequest employeeRequest) throws CompanyNotFoundException {
+        Employee employee = this.employeeWriteBehindQueue.enqueue(this.employeeMapper.toEntity(employeeRequest));
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/employees/" + employee.getId()))
+                .body(new EmployeeAcceptedResponse(employee.getId()));
+    }
+
+    @GetMapping("/async/status")
+    public EmployeeWriteBehindStatusResponse getAsyncStatus() {
+        return new EmployeeWriteBehindStatusResponse(
+                this.employeeWriteBehindQueue.getPending(),
+                this.employeeWriteBehindQueue.getCapacity(),
+                this.employeeWriteBehindQueue.getFlushed(),
+                this.employeeWriteBehindQueue.getFailed()
+        );
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public EmployeeBulkResponse bulkAdd(@RequestBody List<EmployeeBulkRequest> employeeBulkRequests) {
+        Iterator<Employee> employees = employeeBulkRequests.stream()
+                .map(this.employeeMapper::toEntity)
+                .iterator();
+
+        return this.employeeMapper.toBulkResponse(this.employeeService.bulkUpsert(employees));
+    }
+
+    @PostMapping(value = "/bulk", consumes = APPLICATION_NDJSON_VALUE)
+    public EmployeeBulkResponse bulkAddFromStream(InputStream body) throws IOException {
+        try (MappingIterator<EmployeeBulkRequest> employeeBulkRequests = this.objectMapper.readerFor(EmployeeBulkRequest.class).readValues(body)) {
+            Iterator<Employee> employees = StreamSupport.stream(Spliterators.spliteratorUnknownSize(employeeBulkRequests, Spliterator.ORDERED), false)
+                    .map(this.employeeMapper::toEntity)
+                    .iterator();
+
+            return this.employeeMapper.toBulkResponse(this.employeeService.bulkUpsert(employees));
+        }
+    }
+
     @PutMapping("/{id}")
     public EmployeeResponse replace(@PathVariable String id, @RequestBody EmployeeRequest employeeRequest) throws EmployeeNotFoundException, CompanyNotFoundException {
         return this.employeeMapper.toResponse(this.employeeService.replace(id, this.employeeMapper.toEntity(employeeRequest)));
@@ -0,0 +1,155 @@
+package com.thoughtworks.springbootemployee.controller;
+
+import com.thoughtworks.springbootemployee.dto.CompanyRequest;
+import com.thoughtworks.springbootemployee.dto.CompanyResponse;
+import com.thoughtworks.springbootemployee.dto.EmployeeResponse;
+import com.thoughtworks.springbootemployee.entity.Company;
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.mapper.CompanyMapper;
+import com.thoughtworks.springbootemployee.mapper.EmployeeMapper;
+import com.thoughtworks.springbootemployee.pagination.KeysetCursor;
+import com.thoughtworks.springbootemployee.projection.FieldSelection;
+import com.thoughtworks.springbootemployee.service.ReactiveCompanyService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RestController
+@Profile("reactive")
+@RequestMapping("/companies")
+public class ReactiveCompanyController {
+    @Autowired
+    private ReactiveCompanyService companyService;
+
+    @Autowired
+    private CompanyMapper companyMapper;
+
+    @Autowired
+    private EmployeeMapper employeeMapper;
+
+    @GetMapping
+    public Mono<List<CompanyResponse>> getAll(
+        @RequestParam(required = false) String fields,
+        @RequestParam(required = false) String embed
+    ) {
+        Set<String> selectedFields = this.companyMapper.toFields(fields, embed);
+
+        return this.companyService.findAll().collectList().flatMap(companies -> this.toResponse(companies, selectedFields));
+    }
+
+    @GetMapping(params = {
+            "page",
+            "pageSize"
+    })
+    public Mono<List<CompanyResponse>> getAllWithPagination(
+        @RequestParam(required = false) Integer page,
+        @RequestParam(required = false) Integer pageSize,
+        @RequestParam(required = false) String fields,
+        @RequestParam(required = false) String embed
+    ) {
+        Pageable pageable = PageRequest.of((page > 0 ? page - 1 : 0), pageSize);
+        Set<String> selectedFields = this.companyMapper.toFields(fields, embed);
+
+        return this.companyService.findAllWithPagination(pageable).collectList().flatMap(companies -> this.toResponse(companies, selectedFields));
+    }
+
+    @GetMapping(params = {
+            "limit"
+    })
+    public Mono<ResponseEntity<List<CompanyResponse>>> getAllWithKeyset(
+        @RequestParam(required = false) String after,
+        @RequestParam Integer limit,
+        @RequestParam(required = false) String fields,
+        @RequestParam(required = false) String embed
+    ) {
+        Set<String> selectedFields = this.companyMapper.toFields(fields, embed);
+
+        return this.companyService.findAllAfter(KeysetCursor.decode(after), limit)
+                .collectList()
+                .flatMap(companies -> this.toResponse(companies, selectedFields).map(companyResponses -> {
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+                    if (companies.size() == limit) {
+                        response.header(KeysetCursor.NEXT_CURSOR_HEADER, KeysetCursor.encode(companies.get(companies.size() - 1).getId()));
+                    }
+
+                    return response.body(companyResponses);
+                }));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<CompanyResponse> getOne(
+        @PathVariable String id,
+        @RequestParam(required = false) String fields,
+        @RequestParam(required = false) String embed
+    ) {
+        Set<String> selectedFields = this.companyMapper.toFields(fields, embed);
+
+        return this.companyService.findCompanyById(id).flatMap(company -> this.toResponse(company, selectedFields));
+    }
+
+    @GetMapping("/{id}/employees")
+    public Flux<EmployeeResponse> getEmployees(@PathVariable String id) {
+        return this.companyService.findCompanyEmployeesById(id).map(this.employeeMapper::toResponse);
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<CompanyResponse> add(@RequestBody CompanyRequest companyRequest) {
+        return this.companyService.add(this.companyMapper.toEntity(companyRequest)).flatMap(company -> this.toResponse(company, null));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<CompanyResponse> replace(@PathVariable String id, @RequestBody CompanyRequest companyRequest) {
+        return this.companyService.replace(id, this.companyMapper.toEntity(companyRequest)).flatMap(company -> this.toResponse(company, null));
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> delete(@PathVariable String id) {
+        return this.companyService.delete(id);
+    }
+
+    private Mono<CompanyResponse> toResponse(Company company, Set<String> fields) {
+        return this.toResponse(Collections.singletonList(company), fields).map(companyResponses -> companyResponses.get(0));
+    }
+
+    private Mono<List<CompanyResponse>> toResponse(List<Company> companies, Set<String> fields) {
+        if (!FieldSelection.includes(fields, "employees")) {
+            return Mono.just(companies.stream()
+                    .map(company -> this.companyMapper.toResponse(company, Collections.<Employee>emptyList(), fields))
+                    .collect(Collectors.toList()));
+        }
+
+        List<String> companyIds = companies.stream()
+                .map(Company::getId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+
+        return this.companyService.findEmployeesByCompanyIds(companyIds)
+                .map(employeesByCompanyId -> companies.stream()
+                        .map(company -> this.companyMapper.toResponse(company, employeesByCompanyId.getOrDefault(company.getId(), Collections.emptyList()), fields))
+                        .collect(Collectors.toList()));
+    }
+}
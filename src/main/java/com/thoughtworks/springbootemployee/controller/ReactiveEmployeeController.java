@@ -0,0 +1,148 @@
+package com.thoughtworks.springbootemployee.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.thoughtworks.springbootemployee.dto.EmployeeRequest;
+import com.thoughtworks.springbootemployee.dto.EmployeeResponse;
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.mapper.EmployeeMapper;
+import com.thoughtworks.springbootemployee.pagination.KeysetCursor;
+import com.thoughtworks.springbootemployee.projection.FieldSelection;
+import com.thoughtworks.springbootemployee.serialization.ResponseWriters;
+import com.thoughtworks.springbootemployee.service.ReactiveEmployeeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@Profile("reactive")
+@RequestMapping("/employees")
+public class ReactiveEmployeeController {
+    @Autowired
+    private ReactiveEmployeeService employeeService;
+
+    @Autowired
+    private EmployeeMapper employeeMapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired(required = false)
+    private ResponseWriters responseWriters;
+
+    @GetMapping
+    public Flux<EmployeeResponse> getAll(@RequestParam(required = false) String fields) {
+        Set<String> selectedFields = FieldSelection.parse(fields, EmployeeMapper.RESPONSE_FIELDS);
+
+        return this.employeeService.findAll().map(employee -> this.employeeMapper.toResponse(employee, selectedFields));
+    }
+
+    @GetMapping(produces = EmployeeController.APPLICATION_NDJSON_VALUE)
+    public Flux<String> streamAll() {
+        ObjectWriter employeeWriter = this.responseWriters == null ? this.objectMapper.writerFor(EmployeeResponse.class) : this.responseWriters.getEmployeeWriter();
+
+        return this.employeeService.findAll()
+                .map(employee -> {
+                    try {
+                        return employeeWriter.writeValueAsString(this.employeeMapper.toResponse(employee)) + "\n";
+                    } catch (JsonProcessingException exception) {
+                        throw Exceptions.propagate(exception);
+                    }
+                });
+    }
+
+    @GetMapping(params = {
+            "stream=true"
+    }, produces = EmployeeController.APPLICATION_NDJSON_VALUE)
+    public Flux<String> streamAllByParam() {
+        return this.streamAll();
+    }
+
+    @GetMapping(params = {
+            "gender"
+    })
+    public Flux<EmployeeResponse> getAllByGender(@RequestParam String gender) {
+        return this.employeeService.findAllByGender(gender).map(this.employeeMapper::toResponse);
+    }
+
+    @GetMapping(params = {
+            "page",
+            "pageSize"
+    })
+    public Flux<EmployeeResponse> getAllWithPagination(
+        @RequestParam Integer page,
+        @RequestParam Integer pageSize,
+        @RequestParam(required = false) String fields
+    ) {
+        Pageable pageable = PageRequest.of((page > 0 ? page - 1 : 0), pageSize);
+        Set<String> selectedFields = FieldSelection.parse(fields, EmployeeMapper.RESPONSE_FIELDS);
+
+        return this.employeeService.findAllWithPagination(pageable).map(employee -> this.employeeMapper.toResponse(employee, selectedFields));
+    }
+
+    @GetMapping(params = {
+            "limit"
+    })
+    public Mono<ResponseEntity<List<EmployeeResponse>>> getAllWithKeyset(
+        @RequestParam(required = false) String after,
+        @RequestParam Integer limit,
+        @RequestParam(required = false) String fields
+    ) {
+        Set<String> selectedFields = FieldSelection.parse(fields, EmployeeMapper.RESPONSE_FIELDS);
+
+        return this.employeeService.findAllAfter(KeysetCursor.decode(after), limit)
+                .collectList()
+                .map(employees -> {
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+                    if (employees.size() == limit) {
+                        response.header(KeysetCursor.NEXT_CURSOR_HEADER, KeysetCursor.encode(employees.get(employees.size() - 1).getId()));
+                    }
+
+                    return response.body(this.employeeMapper.toResponse(employees, selectedFields));
+                });
+    }
+
+    @GetMapping("/{id}")
+    public Mono<EmployeeResponse> getOne(@PathVariable String id, @RequestParam(required = false) String fields) {
+        Set<String> selectedFields = FieldSelection.parse(fields, EmployeeMapper.RESPONSE_FIELDS);
+
+        return this.employeeService.findEmployeeById(id).map(employee -> this.employeeMapper.toResponse(employee, selectedFields));
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<EmployeeResponse> add(@RequestBody EmployeeRequest employeeRequest) {
+        return this.employeeService.add(this.employeeMapper.toEntity(employeeRequest)).map(this.employeeMapper::toResponse);
+    }
+
+    @PutMapping("/{id}")
+    public Mono<EmployeeResponse> replace(@PathVariable String id, @RequestBody EmployeeRequest employeeRequest) {
+        return this.employeeService.replace(id, this.employeeMapper.toEntity(employeeRequest)).map(this.employeeMapper::toResponse);
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> delete(@PathVariable String id) {
+        return this.employeeService.delete(id);
+    }
+}
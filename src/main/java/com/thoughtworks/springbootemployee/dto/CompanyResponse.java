@@ -1,14 +1,25 @@
 package com.thoughtworks.springbootemployee.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.projection.FieldSelectable;
+import com.thoughtworks.springbootemployee.projection.FieldSelection;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
-public class CompanyResponse {
+@JsonFilter(FieldSelectable.FILTER_ID)
+public class CompanyResponse implements FieldSelectable {
     private String companyName;
     private Integer employeesNumber;
     private List<Employee> employees;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean employeesTruncated;
+    @JsonIgnore
+    private Set<String> selectedFields;
 
     public CompanyResponse() {
         this.employees = new ArrayList<>();
@@ -24,7 +35,11 @@ public class CompanyResponse {
     }
 
     public Integer getEmployeesNumber() {
-        return this.employees.size() ;
+        return employeesNumber;
+    }
+
+    public void setEmployeesNumber(Integer employeesNumber) {
+        this.employeesNumber = employeesNumber;
     }
 
     public List<Employee> getEmployees() {
@@ -34,4 +49,25 @@ public class CompanyResponse {
     public void setEmployees(List<Employee> employees) {
         this.employees = employees;
     }
+
+    public Boolean getEmployeesTruncated() {
+        return employeesTruncated;
+    }
+
+    public void setEmployeesTruncated(Boolean employeesTruncated) {
+        this.employeesTruncated = employeesTruncated;
+    }
+
+    public Set<String> getSelectedFields() {
+        return selectedFields;
+    }
+
+    public void setSelectedFields(Set<String> selectedFields) {
+        this.selectedFields = selectedFields;
+    }
+
+    @Override
+    public boolean isSelected(String field) {
+        return FieldSelection.includes(this.selectedFields, "employeesTruncated".equals(field) ? "employees" : field);
+    }
 }
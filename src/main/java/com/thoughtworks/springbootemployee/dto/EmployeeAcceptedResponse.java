@@ -0,0 +1,13 @@
+package com.thoughtworks.springbootemployee.dto;
+
+public class EmployeeAcceptedResponse {
+    private String id;
+
+    public EmployeeAcceptedResponse(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+}
@@ -0,0 +1,37 @@
+package com.thoughtworks.springbootemployee.dto;
+
+public class EmployeeBulkItemResponse {
+    public enum Status {
+        CREATED,
+        UPSERTED,
+        FAILED
+    }
+
+    private Integer index;
+    private String id;
+    private Status status;
+    private String message;
+
+    public EmployeeBulkItemResponse(Integer index, String id, Status status, String message) {
+        this.index = index;
+        this.id = id;
+        this.status = status;
+        this.message = message;
+    }
+
+    public Integer getIndex() {
+        return index;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,9 @@
+package com.thoughtworks.springbootemployee.dto;
+
+public class EmployeeBulkRequest extends EmployeeRequest {
+    private String id;
+
+    public String getId() {
+        return id;
+    }
+}
@@ -0,0 +1,33 @@
+package com.thoughtworks.springbootemployee.dto;
+
+import java.util.List;
+
+public class EmployeeBulkResponse {
+    private List<EmployeeBulkItemResponse> items;
+
+    public EmployeeBulkResponse(List<EmployeeBulkItemResponse> items) {
+        this.items = items;
+    }
+
+    public Long getCreated() {
+        return this.countByStatus(EmployeeBulkItemResponse.Status.CREATED);
+    }
+
+    public Long getUpserted() {
+        return this.countByStatus(EmployeeBulkItemResponse.Status.UPSERTED);
+    }
+
+    public Long getFailed() {
+        return this.countByStatus(EmployeeBulkItemResponse.Status.FAILED);
+    }
+
+    public List<EmployeeBulkItemResponse> getItems() {
+        return items;
+    }
+
+    private Long countByStatus(EmployeeBulkItemResponse.Status status) {
+        return this.items.stream()
+                .filter(item -> item.getStatus() == status)
+                .count();
+    }
+}
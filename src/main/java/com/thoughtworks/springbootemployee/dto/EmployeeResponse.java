@@ -1,10 +1,20 @@
 package com.thoughtworks.springbootemployee.dto;
 
-public class EmployeeResponse {
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.thoughtworks.springbootemployee.projection.FieldSelectable;
+import com.thoughtworks.springbootemployee.projection.FieldSelection;
+
+import java.util.Set;
+
+@JsonFilter(FieldSelectable.FILTER_ID)
+public class EmployeeResponse implements FieldSelectable {
     private String name;
     private Integer age;
     private String gender;
     private Integer salary;
+    @JsonIgnore
+    private Set<String> selectedFields;
 
     public String getName() {
         return name;
@@ -37,4 +47,17 @@ public class EmployeeResponse {
     public void setSalary(Integer salary) {
         this.salary = salary;
     }
+
+    public Set<String> getSelectedFields() {
+        return selectedFields;
+    }
+
+    public void setSelectedFields(Set<String> selectedFields) {
+        this.selectedFields = selectedFields;
+    }
+
+    @Override
+    public boolean isSelected(String field) {
+        return FieldSelection.includes(this.selectedFields, field);
+    }
 }
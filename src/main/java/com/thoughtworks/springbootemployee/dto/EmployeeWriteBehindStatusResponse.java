@@ -0,0 +1,31 @@
+package com.thoughtworks.springbootemployee.dto;
+
+public class EmployeeWriteBehindStatusResponse {
+    private Integer pending;
+    private Integer capacity;
+    private Long flushed;
+    private Long failed;
+
+    public EmployeeWriteBehindStatusResponse(Integer pending, Integer capacity, Long flushed, Long failed) {
+        this.pending = pending;
+        this.capacity = capacity;
+        this.flushed = flushed;
+        this.failed = failed;
+    }
+
+    public Integer getPending() {
+        return pending;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public Long getFlushed() {
+        return flushed;
+    }
+
+    public Long getFailed() {
+        return failed;
+    }
+}
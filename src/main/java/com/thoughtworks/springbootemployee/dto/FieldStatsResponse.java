@@ -0,0 +1,76 @@
+package com.thoughtworks.springbootemployee.dto;
+
+public class FieldStatsResponse {
+    private Long count;
+    private Long sum;
+    private Double average;
+    private Integer min;
+    private Integer max;
+    private Integer p50;
+    private Integer p90;
+    private Integer p99;
+
+    public Long getCount() {
+        return count;
+    }
+
+    public void setCount(Long count) {
+        this.count = count;
+    }
+
+    public Long getSum() {
+        return sum;
+    }
+
+    public void setSum(Long sum) {
+        this.sum = sum;
+    }
+
+    public Double getAverage() {
+        return average;
+    }
+
+    public void setAverage(Double average) {
+        this.average = average;
+    }
+
+    public Integer getMin() {
+        return min;
+    }
+
+    public void setMin(Integer min) {
+        this.min = min;
+    }
+
+    public Integer getMax() {
+        return max;
+    }
+
+    public void setMax(Integer max) {
+        this.max = max;
+    }
+
+    public Integer getP50() {
+        return p50;
+    }
+
+    public void setP50(Integer p50) {
+        this.p50 = p50;
+    }
+
+    public Integer getP90() {
+        return p90;
+    }
+
+    public void setP90(Integer p90) {
+        this.p90 = p90;
+    }
+
+    public Integer getP99() {
+        return p99;
+    }
+
+    public void setP99(Integer p99) {
+        this.p99 = p99;
+    }
+}
@@ -1,5 +1,8 @@
 package com.thoughtworks.springbootemployee.entity;
 
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.FieldType;
 import org.springframework.data.mongodb.core.mapping.MongoId;
@@ -8,7 +11,12 @@ import org.springframework.data.mongodb.core.mapping.MongoId;
 public class Company {
     @MongoId(FieldType.OBJECT_ID)
     private String id;
+    @Indexed
+    @TextIndexed
     private String companyName;
+    private int employeesNumber;
+    @Version
+    private Long version;
 
     public Company() {
     }
@@ -32,4 +40,20 @@ public class Company {
     public void setCompanyName(String companyName) {
         this.companyName = companyName;
     }
+
+    public int getEmployeesNumber() {
+        return employeesNumber;
+    }
+
+    public void setEmployeesNumber(int employeesNumber) {
+        this.employeesNumber = employeesNumber;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -1,18 +1,33 @@
 package com.thoughtworks.springbootemployee.entity;
 
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.FieldType;
 import org.springframework.data.mongodb.core.mapping.MongoId;
 
 @Document
+@CompoundIndexes({
+        @CompoundIndex(name = "companyId_gender", def = "{'companyId': 1, 'gender': 1}"),
+        @CompoundIndex(name = "companyId_id", def = "{'companyId': 1, '_id': 1}")
+})
 public class Employee {
     @MongoId(FieldType.OBJECT_ID)
     private String id;
+    @Indexed
+    @TextIndexed
     private String name;
+    @Indexed
     private Integer age;
     private String gender;
+    @Indexed
     private Integer salary;
     private String companyId;
+    @Version
+    private Long version;
 
     public Employee() {}
 
@@ -71,4 +86,12 @@ public class Employee {
     public void setCompanyId(String companyId) {
         this.companyId = companyId;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,7 @@
+package com.thoughtworks.springbootemployee.exception;
+
+public class EmployeeWriteBehindRejectedException extends RuntimeException {
+    public EmployeeWriteBehindRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.thoughtworks.springbootemployee.exception;
+
+public class ExportNotAllowedException extends RuntimeException {
+    public ExportNotAllowedException(String message) {
+        super(message);
+    }
+}
@@ -4,48 +4,112 @@ import com.thoughtworks.springbootemployee.dto.CompanyRequest;
 import com.thoughtworks.springbootemployee.dto.CompanyResponse;
 import com.thoughtworks.springbootemployee.entity.Company;
 import com.thoughtworks.springbootemployee.entity.Employee;
-import com.thoughtworks.springbootemployee.exception.CompanyNotFoundException;
+import com.thoughtworks.springbootemployee.pagination.LimitedList;
+import com.thoughtworks.springbootemployee.projection.FieldSelection;
 import com.thoughtworks.springbootemployee.service.CompanyService;
-import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
 public class CompanyMapper {
+    public static final List<String> RESPONSE_FIELDS = Arrays.asList("companyName", "employeesNumber", "employees");
+
+    private static final String EMBED_EMPLOYEES = "employees";
+    private static final String EMBED_NONE = "none";
+
     @Autowired
     private CompanyService companyService;
 
     public Company toEntity(CompanyRequest companyRequest) {
         Company company = new Company();
 
-        BeanUtils.copyProperties(companyRequest, company);
+        company.setCompanyName(companyRequest.getCompanyName());
 
         return company;
     }
 
-    public CompanyResponse toResponse(Company company) {
-        CompanyResponse companyResponse = new CompanyResponse();
-
-        BeanUtils.copyProperties(company, companyResponse);
+    public Set<String> toFields(String fields, String embed) {
+        Set<String> selectedFields = FieldSelection.parse(fields, RESPONSE_FIELDS);
 
-        try{
-            List<Employee> employees = this.companyService.findCompanyEmployeesById(company.getId());
-            companyResponse.setEmployees(employees);
+        if (embed == null || EMBED_EMPLOYEES.equals(embed)) {
+            return selectedFields;
         }
-        catch(CompanyNotFoundException exception) {
-            companyResponse.setEmployees(Collections.emptyList());
+        if (EMBED_NONE.equals(embed)) {
+            return FieldSelection.exclude(selectedFields, "employees", RESPONSE_FIELDS);
         }
 
-        return companyResponse;
+        throw new IllegalArgumentException("Unsupported embed " + embed + ".");
+    }
+
+    public CompanyResponse toResponse(Company company) {
+        return this.toResponse(company, (Set<String>) null);
+    }
+
+    public CompanyResponse toResponse(Company company, Set<String> fields) {
+        return this.toResponse(Collections.singletonList(company), fields).get(0);
+    }
+
+    public CompanyResponse toResponse(Company company, List<Employee> employees) {
+        return this.toResponse(company, employees, null);
+    }
+
+    public CompanyResponse toResponse(Company company, List<Employee> employees, Set<String> fields) {
+        return this.toResponse(company, LimitedList.of(employees, employees.size()), fields);
     }
 
     public List<CompanyResponse> toResponse(List<Company> companies) {
+        return this.toResponse(companies, null);
+    }
+
+    public List<CompanyResponse> toResponse(List<Company> companies, Set<String> fields) {
+        return this.toResponse(companies, this.findEmbeddedEmployees(companies, fields), fields);
+    }
+
+    public List<CompanyResponse> toResponse(List<Company> companies, Map<String, LimitedList<Employee>> employeesByCompanyId, Set<String> fields) {
         return companies.stream()
-                .map(this::toResponse)
+                .map(company -> this.toResponse(company, employeesByCompanyId.getOrDefault(company.getId(), LimitedList.of(Collections.emptyList(), 0)), fields))
                 .collect(Collectors.toList());
     }
+
+    public Map<String, LimitedList<Employee>> findEmbeddedEmployees(List<Company> companies, Set<String> fields) {
+        if (!FieldSelection.includes(fields, "employees")) {
+            return Collections.emptyMap();
+        }
+
+        List<String> companyIds = companies.stream()
+                .map(Company::getId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+
+        return this.companyService.findEmployeesByCompanyIds(companyIds);
+    }
+
+    public static boolean isAnyEmbeddedTruncated(List<CompanyResponse> companyResponses) {
+        return companyResponses.stream().anyMatch(companyResponse -> Boolean.TRUE.equals(companyResponse.getEmployeesTruncated()));
+    }
+
+    private CompanyResponse toResponse(Company company, LimitedList<Employee> employees, Set<String> fields) {
+        CompanyResponse companyResponse = new CompanyResponse();
+
+        companyResponse.setSelectedFields(fields);
+        companyResponse.setCompanyName(FieldSelection.includes(fields, "companyName") ? company.getCompanyName() : null);
+        companyResponse.setEmployeesNumber(FieldSelection.includes(fields, "employeesNumber") ? company.getEmployeesNumber() : null);
+        if (FieldSelection.includes(fields, "employees")) {
+            companyResponse.setEmployees(employees.getItems());
+            companyResponse.setEmployeesTruncated(employees.isTruncated() ? Boolean.TRUE : null);
+        } else {
+            companyResponse.setEmployees(null);
+        }
+
+        return companyResponse;
+    }
 }
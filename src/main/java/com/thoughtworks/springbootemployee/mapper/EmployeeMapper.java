@@ -1,35 +1,114 @@
 package com.thoughtworks.springbootemployee.mapper;
 
+import com.thoughtworks.springbootemployee.dto.EmployeeBulkItemResponse;
+import com.thoughtworks.springbootemployee.dto.EmployeeBulkRequest;
+import com.thoughtworks.springbootemployee.dto.EmployeeBulkResponse;
 import com.thoughtworks.springbootemployee.dto.EmployeeRequest;
 import com.thoughtworks.springbootemployee.dto.EmployeeResponse;
+import com.thoughtworks.springbootemployee.dto.EmployeeStatsResponse;
+import com.thoughtworks.springbootemployee.dto.FieldStatsResponse;
 import com.thoughtworks.springbootemployee.entity.Employee;
-import org.springframework.beans.BeanUtils;
+import com.thoughtworks.springbootemployee.projection.FieldSelection;
+import com.thoughtworks.springbootemployee.statistics.EmployeeStats;
+import com.thoughtworks.springbootemployee.statistics.FieldStats;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
 public class EmployeeMapper {
+    public static final List<String> RESPONSE_FIELDS = Arrays.asList("name", "age", "gender", "salary");
+
     public Employee toEntity(EmployeeRequest employeeRequest) {
         Employee employee = new Employee();
 
-        BeanUtils.copyProperties(employeeRequest, employee);
+        employee.setName(employeeRequest.getName());
+        employee.setAge(employeeRequest.getAge());
+        employee.setGender(employeeRequest.getGender());
+        employee.setSalary(employeeRequest.getSalary());
+        employee.setCompanyId(employeeRequest.getCompanyId());
+
+        return employee;
+    }
+
+    public Employee toEntity(EmployeeBulkRequest employeeBulkRequest) {
+        Employee employee = this.toEntity((EmployeeRequest) employeeBulkRequest);
+
+        employee.setId(employeeBulkRequest.getId());
 
         return employee;
     }
 
     public EmployeeResponse toResponse(Employee employee) {
+        return this.toResponse(employee, null);
+    }
+
+    public EmployeeResponse toResponse(Employee employee, Set<String> fields) {
         EmployeeResponse employeeResponse = new EmployeeResponse();
 
-        BeanUtils.copyProperties(employee, employeeResponse);
+        employeeResponse.setSelectedFields(fields);
+        if (FieldSelection.includes(fields, "name")) {
+            employeeResponse.setName(employee.getName());
+        }
+        if (FieldSelection.includes(fields, "age")) {
+            employeeResponse.setAge(employee.getAge());
+        }
+        if (FieldSelection.includes(fields, "gender")) {
+            employeeResponse.setGender(employee.getGender());
+        }
+        if (FieldSelection.includes(fields, "salary")) {
+            employeeResponse.setSalary(employee.getSalary());
+        }
 
         return employeeResponse;
     }
 
     public List<EmployeeResponse> toResponse(List<Employee> employees) {
+        return this.toResponse(employees, null);
+    }
+
+    public List<EmployeeResponse> toResponse(List<Employee> employees, Set<String> fields) {
         return employees.stream()
-                .map(this::toResponse)
+                .map(employee -> this.toResponse(employee, fields))
                 .collect(Collectors.toList());
     }
+
+    public EmployeeStatsResponse toStatsResponse(EmployeeStats employeeStats) {
+        EmployeeStatsResponse employeeStatsResponse = new EmployeeStatsResponse();
+
+        employeeStatsResponse.setGroup(employeeStats.getGroup());
+        employeeStatsResponse.setCount(employeeStats.getCount());
+        employeeStatsResponse.setSalary(this.toStatsResponse(employeeStats.getSalary()));
+        employeeStatsResponse.setAge(this.toStatsResponse(employeeStats.getAge()));
+
+        return employeeStatsResponse;
+    }
+
+    public List<EmployeeStatsResponse> toStatsResponse(List<EmployeeStats> employeeStats) {
+        return employeeStats.stream()
+                .map(this::toStatsResponse)
+                .collect(Collectors.toList());
+    }
+
+    public EmployeeBulkResponse toBulkResponse(List<EmployeeBulkItemResponse> items) {
+        return new EmployeeBulkResponse(items);
+    }
+
+    private FieldStatsResponse toStatsResponse(FieldStats fieldStats) {
+        FieldStatsResponse fieldStatsResponse = new FieldStatsResponse();
+
+        fieldStatsResponse.setCount(fieldStats.getCount());
+        fieldStatsResponse.setSum(fieldStats.getSum());
+        fieldStatsResponse.setAverage(fieldStats.getAverage());
+        fieldStatsResponse.setMin(fieldStats.getMin());
+        fieldStatsResponse.setMax(fieldStats.getMax());
+        fieldStatsResponse.setP50(fieldStats.getP50());
+        fieldStatsResponse.setP90(fieldStats.getP90());
+        fieldStatsResponse.setP99(fieldStats.getP99());
+
+        return fieldStatsResponse;
+    }
 }
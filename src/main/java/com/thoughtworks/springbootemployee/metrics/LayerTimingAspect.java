@@ -0,0 +1,92 @@
+package com.thoughtworks.springbootemployee.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Proxy;
+
+@Aspect
+@Component
+public class LayerTimingAspect {
+    public static final String METHOD_TIMER = "application.method";
+
+    private static final String NO_EXCEPTION = "none";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Around("within(com.thoughtworks.springbootemployee.controller..*)")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return this.time("controller", joinPoint);
+    }
+
+    @Around("within(com.thoughtworks.springbootemployee.service..*)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return this.time("service", joinPoint);
+    }
+
+    @Around("within(com.thoughtworks.springbootemployee.mapper..*)")
+    public Object timeMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        return this.time("mapper", joinPoint);
+    }
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return this.time("repository", joinPoint);
+    }
+
+    private Object time(String layer, ProceedingJoinPoint joinPoint) throws Throwable {
+        String type = typeOf(joinPoint.getTarget());
+        String method = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(this.meterRegistry);
+
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable throwable) {
+            this.stop(sample, layer, type, method, throwable);
+            throw throwable;
+        }
+
+        if (result instanceof Mono) {
+            return ((Mono<?>) result)
+                    .doOnSuccess(value -> this.stop(sample, layer, type, method, null))
+                    .doOnError(throwable -> this.stop(sample, layer, type, method, throwable));
+        }
+        if (result instanceof Flux) {
+            return ((Flux<?>) result)
+                    .doOnComplete(() -> this.stop(sample, layer, type, method, null))
+                    .doOnError(throwable -> this.stop(sample, layer, type, method, throwable));
+        }
+
+        this.stop(sample, layer, type, method, null);
+
+        return result;
+    }
+
+    private void stop(Timer.Sample sample, String layer, String type, String method, Throwable throwable) {
+        sample.stop(Timer.builder(METHOD_TIMER)
+                .tag("layer", layer)
+                .tag("class", type)
+                .tag("method", method)
+                .tag("exception", throwable == null ? NO_EXCEPTION : throwable.getClass().getSimpleName())
+                .register(this.meterRegistry));
+    }
+
+    private static String typeOf(Object target) {
+        if (Proxy.isProxyClass(target.getClass())) {
+            return AopProxyUtils.proxiedUserInterfaces(target)[0].getSimpleName();
+        }
+
+        return ClassUtils.getUserClass(target).getSimpleName();
+    }
+}
@@ -0,0 +1,51 @@
+package com.thoughtworks.springbootemployee.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "mongo.command-budget")
+public class MongoCommandBudget {
+    public static final int UNLIMITED = -1;
+
+    public enum Enforcement {
+        OFF, WARN
+    }
+
+    private Enforcement enforcement = Enforcement.OFF;
+
+    private int defaultLimit = UNLIMITED;
+
+    private Map<String, Integer> limits = new HashMap<>();
+
+    public int limitOf(String endpoint) {
+        return this.limits.getOrDefault(endpoint, this.defaultLimit);
+    }
+
+    public Enforcement getEnforcement() {
+        return this.enforcement;
+    }
+
+    public void setEnforcement(Enforcement enforcement) {
+        this.enforcement = enforcement;
+    }
+
+    public int getDefaultLimit() {
+        return this.defaultLimit;
+    }
+
+    public void setDefaultLimit(int defaultLimit) {
+        this.defaultLimit = defaultLimit;
+    }
+
+    public Map<String, Integer> getLimits() {
+        return this.limits;
+    }
+
+    public void setLimits(Map<String, Integer> limits) {
+        this.limits = limits;
+    }
+}
@@ -0,0 +1,33 @@
+package com.thoughtworks.springbootemployee.metrics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class MongoCommandCounter {
+    private static final ThreadLocal<AtomicInteger> COMMANDS = new ThreadLocal<>();
+
+    private MongoCommandCounter() {
+    }
+
+    public static void increment() {
+        AtomicInteger commands = COMMANDS.get();
+        if (commands != null) {
+            commands.incrementAndGet();
+        }
+    }
+
+    public static AtomicInteger current() {
+        return COMMANDS.get();
+    }
+
+    public static void attach(AtomicInteger commands) {
+        if (commands == null) {
+            COMMANDS.remove();
+        } else {
+            COMMANDS.set(commands);
+        }
+    }
+
+    public static void detach() {
+        COMMANDS.remove();
+    }
+}
@@ -0,0 +1,113 @@
+package com.thoughtworks.springbootemployee.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Profile("!reactive")
+public class MongoCommandsPerRequestFilter extends OncePerRequestFilter {
+    public static final String COMMANDS_SUMMARY = "http.server.requests.mongo.commands";
+    public static final String BUDGET_EXCEEDED_COUNTER = "http.server.requests.mongo.budget.exceeded";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MongoCommandsPerRequestFilter.class);
+
+    public static final String COMMANDS_ATTRIBUTE = MongoCommandsPerRequestFilter.class.getName() + ".commands";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MongoCommandBudget mongoCommandBudget;
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        AtomicInteger commands = (AtomicInteger) request.getAttribute(COMMANDS_ATTRIBUTE);
+        if (commands == null) {
+            commands = new AtomicInteger();
+            request.setAttribute(COMMANDS_ATTRIBUTE, commands);
+            WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(COMMANDS_ATTRIBUTE, new CommandCountingInterceptor(commands));
+        }
+
+        MongoCommandCounter.attach(commands);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MongoCommandCounter.detach();
+            if (!this.isAsyncStarted(request)) {
+                DistributionSummary.builder(COMMANDS_SUMMARY)
+                        .tag("method", request.getMethod())
+                        .tag("uri", uriOf(request))
+                        .register(this.meterRegistry)
+                        .record(commands.get());
+            }
+        }
+
+        // a streamed body issues a getMore per cursor batch, so its count grows with
+        // the collection; async requests are recorded above but left out of the budget,
+        // which is only reported since the response is already written by now
+        if (!this.isAsyncStarted(request) && !this.isAsyncDispatch(request)) {
+            this.checkBudget(request.getMethod(), uriOf(request), commands.get());
+        }
+    }
+
+    private void checkBudget(String method, String uri, int commands) {
+        String endpoint = method + " " + uri;
+        int limit = this.mongoCommandBudget.limitOf(endpoint);
+
+        if (this.mongoCommandBudget.getEnforcement() == MongoCommandBudget.Enforcement.OFF || limit == MongoCommandBudget.UNLIMITED || commands <= limit) {
+            return;
+        }
+
+        this.meterRegistry.counter(BUDGET_EXCEEDED_COUNTER, "method", method, "uri", uri).increment();
+        LOGGER.warn("{} issued {} Mongo commands, over its budget of {}.", endpoint, commands, limit);
+    }
+
+    private static final class CommandCountingInterceptor implements CallableProcessingInterceptor {
+        private final AtomicInteger commands;
+
+        private CommandCountingInterceptor(AtomicInteger commands) {
+            this.commands = commands;
+        }
+
+        @Override
+        public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+            MongoCommandCounter.attach(this.commands);
+        }
+
+        @Override
+        public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+            MongoCommandCounter.detach();
+        }
+    }
+
+    private static String uriOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        return pattern == null ? UNKNOWN_URI : pattern.toString();
+    }
+}
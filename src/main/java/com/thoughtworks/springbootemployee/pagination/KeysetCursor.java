@@ -0,0 +1,31 @@
+package com.thoughtworks.springbootemployee.pagination;
+
+import org.bson.types.ObjectId;
+
+import java.util.Base64;
+
+public final class KeysetCursor {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final int OBJECT_ID_LENGTH = 12;
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(String id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(new ObjectId(id).toByteArray());
+    }
+
+    public static String decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+
+        byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+        if (bytes.length != OBJECT_ID_LENGTH) {
+            throw new IllegalArgumentException("Invalid cursor.");
+        }
+
+        return new ObjectId(bytes).toHexString();
+    }
+}
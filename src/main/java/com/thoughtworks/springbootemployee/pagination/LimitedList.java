@@ -0,0 +1,57 @@
+package com.thoughtworks.springbootemployee.pagination;
+
+import org.springframework.http.HttpHeaders;
+
+import java.util.List;
+
+public class LimitedList<T> {
+    public static final String LIMIT_HEADER = "X-Result-Limit";
+
+    public static final String TRUNCATED_HEADER = "X-Result-Truncated";
+
+    public static final String EMBEDDED_TRUNCATED_HEADER = "X-Embedded-Truncated";
+
+    private final List<T> items;
+
+    private final int limit;
+
+    private final boolean truncated;
+
+    private LimitedList(List<T> items, int limit, boolean truncated) {
+        this.items = items;
+        this.limit = limit;
+        this.truncated = truncated;
+    }
+
+    public static <T> LimitedList<T> of(List<T> fetched, int limit) {
+        if (fetched.size() > limit) {
+            return new LimitedList<>(fetched.subList(0, limit), limit, true);
+        }
+
+        return new LimitedList<>(fetched, limit, false);
+    }
+
+    public List<T> getItems() {
+        return this.items;
+    }
+
+    public int getLimit() {
+        return this.limit;
+    }
+
+    public boolean isTruncated() {
+        return this.truncated;
+    }
+
+    public T getLast() {
+        return this.items.isEmpty() ? null : this.items.get(this.items.size() - 1);
+    }
+
+    public HttpHeaders toHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(LIMIT_HEADER, String.valueOf(this.limit));
+        headers.set(TRUNCATED_HEADER, String.valueOf(this.truncated));
+
+        return headers;
+    }
+}
@@ -0,0 +1,80 @@
+package com.thoughtworks.springbootemployee.pagination;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "list")
+public class ListLimits {
+    private int maxPageSize = 1000;
+
+    private int defaultLimit = 1000;
+
+    private int embeddedLimit = 100;
+
+    private List<String> exportClients = new ArrayList<>();
+
+    public Pageable firstPage() {
+        return PageRequest.of(0, this.defaultLimit + 1, Sort.by(Sort.Direction.ASC, "id"));
+    }
+
+    public <T> LimitedList<T> truncate(List<T> fetched) {
+        return LimitedList.of(fetched, this.defaultLimit);
+    }
+
+    public <T> LimitedList<T> truncateEmbedded(List<T> fetched) {
+        return LimitedList.of(fetched, this.embeddedLimit);
+    }
+
+    public void checkPageSize(int pageSize) {
+        if (pageSize > this.maxPageSize) {
+            throw new IllegalArgumentException("Page size must not be greater than " + this.maxPageSize + ".");
+        }
+    }
+
+    public boolean isExportRestricted() {
+        return !this.exportClients.isEmpty();
+    }
+
+    public boolean isExportClient(String client) {
+        return client != null && this.exportClients.contains(client);
+    }
+
+    public int getMaxPageSize() {
+        return this.maxPageSize;
+    }
+
+    public void setMaxPageSize(int maxPageSize) {
+        this.maxPageSize = maxPageSize;
+    }
+
+    public int getDefaultLimit() {
+        return this.defaultLimit;
+    }
+
+    public void setDefaultLimit(int defaultLimit) {
+        this.defaultLimit = defaultLimit;
+    }
+
+    public int getEmbeddedLimit() {
+        return this.embeddedLimit;
+    }
+
+    public void setEmbeddedLimit(int embeddedLimit) {
+        this.embeddedLimit = embeddedLimit;
+    }
+
+    public List<String> getExportClients() {
+        return this.exportClients;
+    }
+
+    public void setExportClients(List<String> exportClients) {
+        this.exportClients = exportClients;
+    }
+}
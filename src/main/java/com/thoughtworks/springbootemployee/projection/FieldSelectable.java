@@ -0,0 +1,7 @@
+package com.thoughtworks.springbootemployee.projection;
+
+public interface FieldSelectable {
+    String FILTER_ID = "fieldSelection";
+
+    boolean isSelected(String field);
+}
@@ -0,0 +1,55 @@
+package com.thoughtworks.springbootemployee.projection;
+
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public final class FieldSelection {
+    private FieldSelection() {
+    }
+
+    public static Set<String> parse(String fields, Collection<String> supportedFields) {
+        if (fields == null || fields.trim().isEmpty()) {
+            return null;
+        }
+
+        Set<String> selectedFields = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String trimmedField = field.trim();
+            if (trimmedField.isEmpty()) {
+                continue;
+            }
+            if (!supportedFields.contains(trimmedField)) {
+                throw new IllegalArgumentException("Unsupported field " + trimmedField + ".");
+            }
+
+            selectedFields.add(trimmedField);
+        }
+
+        return selectedFields;
+    }
+
+    public static Set<String> exclude(Set<String> selectedFields, String field, Collection<String> supportedFields) {
+        Set<String> remainingFields = new LinkedHashSet<>(selectedFields == null ? supportedFields : selectedFields);
+        remainingFields.remove(field);
+
+        return remainingFields;
+    }
+
+    public static boolean includes(Set<String> selectedFields, String field) {
+        return selectedFields == null || selectedFields.contains(field);
+    }
+
+    public static Query project(Query query, Set<String> selectedFields, Collection<String> documentFields) {
+        if (selectedFields != null) {
+            query.fields().include("id");
+            selectedFields.stream()
+                    .filter(documentFields::contains)
+                    .forEach(query.fields()::include);
+        }
+
+        return query;
+    }
+}
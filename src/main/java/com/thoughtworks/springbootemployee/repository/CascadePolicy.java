@@ -0,0 +1,22 @@
+package com.thoughtworks.springbootemployee.repository;
+
+import java.util.Locale;
+
+public enum CascadePolicy {
+    NONE,
+    DELETE,
+    NULLIFY,
+    REASSIGN;
+
+    public static CascadePolicy parse(String cascade) {
+        if (cascade == null) {
+            return NONE;
+        }
+
+        try {
+            return CascadePolicy.valueOf(cascade.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            throw new IllegalArgumentException("Unsupported cascade " + cascade + ".");
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.thoughtworks.springbootemployee.repository;
+
+import com.thoughtworks.springbootemployee.entity.Company;
+
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public interface CompanyRepositoryCustom {
+    List<Company> findAllProjected(Pageable pageable, Set<String> fields);
+
+    List<Company> findAllAfter(String lastId, int limit);
+
+    List<Company> findAllAfter(String lastId, int limit, Set<String> fields);
+
+    List<Company> searchByName(String text, int limit);
+
+    Optional<Company> findAndUpdateById(String id, Company company);
+
+    Optional<Company> incrementEmployeesNumber(String id, int delta);
+
+    void incrementEmployeesNumbers(Map<String, Integer> deltas);
+
+    int reconcileEmployeesNumbers();
+
+    Optional<Long> findVersionById(String id);
+
+    boolean removeById(String id);
+
+    Optional<Long> removeByIdCascading(String id, CascadePolicy policy, String reassignTo);
+}
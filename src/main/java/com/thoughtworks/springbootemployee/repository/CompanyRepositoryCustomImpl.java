@@ -0,0 +1,203 @@
+package com.thoughtworks.springbootemployee.repository;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.client.ClientSession;
+import com.thoughtworks.springbootemployee.entity.Company;
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.projection.FieldSelection;
+import com.thoughtworks.springbootemployee.search.NameSearch;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public class CompanyRepositoryCustomImpl implements CompanyRepositoryCustom {
+    private static final List<String> DOCUMENT_FIELDS = Arrays.asList("companyName", "employeesNumber", "version");
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MongoDatabaseFactory mongoDatabaseFactory;
+
+    @Autowired
+    private MongoTopology mongoTopology;
+
+    @Override
+    public List<Company> findAllProjected(Pageable pageable, Set<String> fields) {
+        Query query = FieldSelection.project(new Query().with(pageable), fields, DOCUMENT_FIELDS);
+
+        return this.mongoTemplate.find(query, Company.class);
+    }
+
+    @Override
+    public List<Company> findAllAfter(String lastId, int limit) {
+        return this.findAllAfter(lastId, limit, null);
+    }
+
+    @Override
+    public List<Company> findAllAfter(String lastId, int limit, Set<String> fields) {
+        Query query = new Query()
+                .with(Sort.by(Sort.Direction.ASC, "id"))
+                .limit(limit);
+
+        if (lastId != null) {
+            query.addCriteria(Criteria.where("id").gt(new ObjectId(lastId)));
+        }
+
+        return this.mongoTemplate.find(FieldSelection.project(query, fields, DOCUMENT_FIELDS), Company.class);
+    }
+
+    @Override
+    public List<Company> searchByName(String text, int limit) {
+        return NameSearch.find(this.mongoTemplate, Company.class, "companyName", text, limit, Company::getId);
+    }
+
+    @Override
+    public Optional<Company> findAndUpdateById(String id, Company company) {
+        return Optional.ofNullable(this.mongoTemplate.findAndModify(
+                Query.query(Criteria.where("id").is(id)),
+                new Update().set("companyName", company.getCompanyName()).inc("version", 1),
+                FindAndModifyOptions.options().returnNew(true),
+                Company.class
+        ));
+    }
+
+    @Override
+    public Optional<Company> incrementEmployeesNumber(String id, int delta) {
+        return Optional.ofNullable(this.mongoTemplate.findAndModify(
+                Query.query(Criteria.where("id").is(id)),
+                new Update().inc("employeesNumber", delta).inc("version", 1),
+                FindAndModifyOptions.options().returnNew(true),
+                Company.class
+        ));
+    }
+
+    @Override
+    public void incrementEmployeesNumbers(Map<String, Integer> deltas) {
+        BulkOperations bulkOperations = this.mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Company.class);
+
+        deltas.forEach((id, delta) -> bulkOperations.updateOne(Query.query(Criteria.where("id").is(id)), new Update().inc("employeesNumber", delta).inc("version", 1)));
+
+        bulkOperations.execute();
+    }
+
+    @Override
+    public int reconcileEmployeesNumbers() {
+        Aggregation aggregation = Aggregation.newAggregation(Employee.class,
+                Aggregation.match(Criteria.where("companyId").ne(null)),
+                Aggregation.group("companyId").count().as("count")
+        );
+
+        Map<String, Integer> employeesNumbers = new HashMap<>();
+        this.mongoTemplate.aggregate(aggregation, Document.class)
+                .forEach(result -> employeesNumbers.put(result.getString("_id"), result.get("count", Number.class).intValue()));
+
+        Query query = new Query();
+        query.fields().include("employeesNumber");
+
+        BulkOperations bulkOperations = this.mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Company.class);
+        int repaired = 0;
+        try (CloseableIterator<Company> companies = this.mongoTemplate.stream(query, Company.class)) {
+            while (companies.hasNext()) {
+                Company company = companies.next();
+                int employeesNumber = employeesNumbers.getOrDefault(company.getId(), 0);
+
+                if (company.getEmployeesNumber() != employeesNumber) {
+                    bulkOperations.updateOne(Query.query(Criteria.where("id").is(company.getId())), new Update().set("employeesNumber", employeesNumber).inc("version", 1));
+                    repaired++;
+                }
+            }
+        }
+
+        if (repaired > 0) {
+            bulkOperations.execute();
+        }
+
+        return repaired;
+    }
+
+    @Override
+    public Optional<Long> findVersionById(String id) {
+        Query query = Query.query(Criteria.where("id").is(id));
+        query.fields().include("version");
+
+        return Optional.ofNullable(this.mongoTemplate.findOne(query, Company.class))
+                .map(company -> company.getVersion() == null ? 0L : company.getVersion());
+    }
+
+    @Override
+    public boolean removeById(String id) {
+        return this.mongoTemplate.remove(Query.query(Criteria.where("id").is(id)), Company.class).getDeletedCount() > 0;
+    }
+
+    @Override
+    public Optional<Long> removeByIdCascading(String id, CascadePolicy policy, String reassignTo) {
+        if (!this.mongoTopology.isReplicaSet()) {
+            return removeByIdCascading(this.mongoTemplate, id, policy, reassignTo);
+        }
+
+        try (ClientSession session = this.mongoDatabaseFactory.getSession(ClientSessionOptions.builder().causallyConsistent(true).build())) {
+            session.startTransaction();
+            try {
+                Optional<Long> affected = removeByIdCascading(this.mongoTemplate.withSession(session), id, policy, reassignTo);
+                if (affected.isPresent()) {
+                    session.commitTransaction();
+                } else {
+                    session.abortTransaction();
+                }
+
+                return affected;
+            } catch (RuntimeException exception) {
+                session.abortTransaction();
+                throw exception;
+            }
+        }
+    }
+
+    private static Optional<Long> removeByIdCascading(MongoTemplate mongoTemplate, String id, CascadePolicy policy, String reassignTo) {
+        // writing the target first makes a concurrent delete of it conflict with this transaction instead of slipping in before the reassignment
+        if (policy == CascadePolicy.REASSIGN && mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(reassignTo)), new Update().inc("version", 1), Company.class).getMatchedCount() == 0) {
+            return Optional.empty();
+        }
+
+        if (mongoTemplate.remove(Query.query(Criteria.where("id").is(id)), Company.class).getDeletedCount() == 0) {
+            return Optional.empty();
+        }
+
+        Query employees = Query.query(Criteria.where("companyId").is(id));
+
+        switch (policy) {
+            case DELETE:
+                return Optional.of(mongoTemplate.remove(employees, Employee.class).getDeletedCount());
+            case NULLIFY:
+                return Optional.of(mongoTemplate.updateMulti(employees, new Update().set("companyId", null).inc("version", 1), Employee.class).getModifiedCount());
+            case REASSIGN:
+                long reassigned = mongoTemplate.updateMulti(employees, new Update().set("companyId", reassignTo).inc("version", 1), Employee.class).getModifiedCount();
+                if (mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(reassignTo)), new Update().inc("employeesNumber", Math.toIntExact(reassigned)), Company.class).getMatchedCount() == 0) {
+                    return Optional.empty();
+                }
+
+                return Optional.of(reassigned);
+            default:
+                return Optional.of(0L);
+        }
+    }
+}
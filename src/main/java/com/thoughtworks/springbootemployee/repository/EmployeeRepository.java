@@ -1,12 +1,13 @@
 package com.thoughtworks.springbootemployee.repository;
 
 import com.thoughtworks.springbootemployee.entity.Employee;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.util.List;
 
-public interface EmployeeRepository extends MongoRepository<Employee, String> {
-    List<Employee> findAllByGender(String gender);
+public interface EmployeeRepository extends MongoRepository<Employee, String>, EmployeeRepositoryCustom {
+    List<Employee> findAllByGender(String gender, Pageable pageable);
 
-    List<Employee> findAllByCompanyId(String companyId);
+    List<Employee> findAllByCompanyId(String companyId, Pageable pageable);
 }
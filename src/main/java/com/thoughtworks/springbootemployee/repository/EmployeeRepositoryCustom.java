@@ -0,0 +1,44 @@
+package com.thoughtworks.springbootemployee.repository;
+
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.search.EmployeeSearchCriteria;
+import com.thoughtworks.springbootemployee.search.SearchCursor;
+import com.thoughtworks.springbootemployee.statistics.EmployeeStats;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.util.CloseableIterator;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public interface EmployeeRepositoryCustom {
+    CloseableIterator<Employee> streamAll();
+
+    List<Employee> findAllProjected(Pageable pageable, Set<String> fields);
+
+    List<Employee> findAllAfter(String lastId, int limit);
+
+    List<Employee> findAllByCompanyIdIn(Collection<String> companyIds, int limitPerCompany);
+
+    List<Employee> findAllAfter(String lastId, int limit, Set<String> fields);
+
+    List<Employee> search(EmployeeSearchCriteria criteria, SearchCursor after, Set<String> fields);
+
+    List<Employee> searchByName(String text, int limit);
+
+    Map<Integer, String> bulkUpsert(List<Employee> employees);
+
+    Map<Integer, String> bulkInsert(List<Employee> employees);
+
+    Map<String, String> findCompanyIdsByIds(Collection<String> ids);
+
+    Optional<Employee> findAndReplaceById(String id, Employee employee);
+
+    Optional<Employee> findAndRemoveById(String id);
+
+    Optional<Long> findVersionById(String id);
+
+    List<EmployeeStats> aggregateStats(String companyId, String groupBy);
+}
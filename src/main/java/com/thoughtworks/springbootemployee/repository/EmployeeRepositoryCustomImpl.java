@@ -0,0 +1,386 @@
+package com.thoughtworks.springbootemployee.repository;
+
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.projection.FieldSelection;
+import com.thoughtworks.springbootemployee.search.EmployeeSearchCriteria;
+import com.thoughtworks.springbootemployee.search.NameSearch;
+import com.thoughtworks.springbootemployee.search.SearchCursor;
+import com.thoughtworks.springbootemployee.statistics.EmployeeStats;
+import com.thoughtworks.springbootemployee.statistics.FieldStats;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.GroupOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+    private static final List<String> DOCUMENT_FIELDS = Arrays.asList("name", "age", "gender", "salary", "companyId", "version");
+
+    private static final List<String> STATS_FIELDS = Arrays.asList("salary", "age");
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public CloseableIterator<Employee> streamAll() {
+        return this.mongoTemplate.stream(new Query(), Employee.class);
+    }
+
+    @Override
+    public List<Employee> findAllProjected(Pageable pageable, Set<String> fields) {
+        Query query = FieldSelection.project(new Query().with(pageable), fields, DOCUMENT_FIELDS);
+
+        return this.mongoTemplate.find(query, Employee.class);
+    }
+
+    @Override
+    public List<Employee> findAllAfter(String lastId, int limit) {
+        return this.findAllAfter(lastId, limit, null);
+    }
+
+    @Override
+    public List<Employee> findAllByCompanyIdIn(Collection<String> companyIds, int limitPerCompany) {
+        int limit = companyIds.size() * limitPerCompany;
+        Query query = Query.query(Criteria.where("companyId").in(companyIds))
+                .with(Sort.by(Sort.Direction.ASC, "companyId", "id"))
+                .limit(limit);
+
+        List<Employee> fetched = this.mongoTemplate.find(query, Employee.class);
+
+        List<Employee> employees = new ArrayList<>();
+        Map<String, Integer> countsByCompanyId = new HashMap<>();
+        for (Employee employee : fetched) {
+            if (countsByCompanyId.merge(employee.getCompanyId(), 1, Integer::sum) <= limitPerCompany) {
+                employees.add(employee);
+            }
+        }
+        if (fetched.size() < limit) {
+            return employees;
+        }
+
+        // a company over its cap used up the shared limit, so every company sorting after the
+        // last one read, and the last one itself when it got cut short, is read on its own
+        String lastCompanyId = fetched.get(fetched.size() - 1).getCompanyId();
+        for (String companyId : companyIds) {
+            int comparison = companyId.compareTo(lastCompanyId);
+            if (comparison > 0 || (comparison == 0 && countsByCompanyId.get(companyId) < limitPerCompany)) {
+                employees.removeIf(employee -> employee.getCompanyId().equals(companyId));
+                employees.addAll(this.findAllByCompanyId(companyId, limitPerCompany));
+            }
+        }
+
+        return employees;
+    }
+
+    private List<Employee> findAllByCompanyId(String companyId, int limit) {
+        Query query = Query.query(Criteria.where("companyId").is(companyId))
+                .with(Sort.by(Sort.Direction.ASC, "id"))
+                .limit(limit);
+
+        return this.mongoTemplate.find(query, Employee.class);
+    }
+
+    @Override
+    public List<Employee> findAllAfter(String lastId, int limit, Set<String> fields) {
+        Query query = new Query()
+                .with(Sort.by(Sort.Direction.ASC, "id"))
+                .limit(limit);
+
+        if (lastId != null) {
+            query.addCriteria(Criteria.where("id").gt(new ObjectId(lastId)));
+        }
+
+        return this.mongoTemplate.find(FieldSelection.project(query, fields, DOCUMENT_FIELDS), Employee.class);
+    }
+
+    @Override
+    public List<Employee> search(EmployeeSearchCriteria criteria, SearchCursor after, Set<String> fields) {
+        Query query = new Query();
+
+        if (criteria.getGender() != null) {
+            query.addCriteria(Criteria.where("gender").is(criteria.getGender()));
+        }
+        if (criteria.getCompanyId() != null) {
+            query.addCriteria(Criteria.where("companyId").is(criteria.getCompanyId()));
+        }
+        if (criteria.getName() != null && !criteria.getName().isEmpty()) {
+            query.addCriteria(Criteria.where("name").regex("^" + NameSearch.escape(criteria.getName())));
+        }
+        addRange(query, "age", criteria.getMinAge(), criteria.getMaxAge());
+        addRange(query, "salary", criteria.getMinSalary(), criteria.getMaxSalary());
+
+        String sortField = criteria.getSortField();
+        Sort.Direction sortDirection = criteria.getSortDirection();
+        boolean sortById = "id".equals(sortField);
+
+        if (after != null) {
+            ObjectId lastId = new ObjectId(after.getId());
+            if (sortById) {
+                Criteria idCriteria = Criteria.where("id");
+                query.addCriteria(sortDirection.isAscending() ? idCriteria.gt(lastId) : idCriteria.lt(lastId));
+            } else {
+                query.addCriteria(afterValue(sortField, sortDirection, after.getValue(), lastId));
+            }
+        }
+
+        Sort sort = Sort.by(sortDirection, sortField);
+        if (!sortById) {
+            sort = sort.and(Sort.by(Sort.Direction.ASC, "id"));
+        }
+        query.with(sort);
+
+        if (criteria.isKeyset()) {
+            query.limit(criteria.getLimit());
+        } else {
+            query.skip((long) (criteria.getPage() - 1) * criteria.getPageSize()).limit(criteria.getPageSize());
+        }
+
+        Set<String> projectedFields = fields;
+        if (fields != null && !sortById) {
+            projectedFields = new LinkedHashSet<>(fields);
+            projectedFields.add(sortField);
+        }
+
+        return this.mongoTemplate.find(FieldSelection.project(query, projectedFields, DOCUMENT_FIELDS), Employee.class);
+    }
+
+    @Override
+    public List<Employee> searchByName(String text, int limit) {
+        return NameSearch.find(this.mongoTemplate, Employee.class, "name", text, limit, Employee::getId);
+    }
+
+    @Override
+    public Map<Integer, String> bulkUpsert(List<Employee> employees) {
+        BulkOperations bulkOperations = this.mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Employee.class);
+
+        for (Employee employee : employees) {
+            if (employee.getId() == null) {
+                employee.setId(new ObjectId().toHexString());
+                employee.setVersion(0L);
+                bulkOperations.insert(employee);
+            } else {
+                bulkOperations.upsert(Query.query(Criteria.where("id").is(employee.getId())), toUpdate(employee).inc("version", 1));
+            }
+        }
+
+        return executeCollectingErrors(bulkOperations);
+    }
+
+    @Override
+    public Map<Integer, String> bulkInsert(List<Employee> employees) {
+        BulkOperations bulkOperations = this.mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Employee.class);
+
+        for (Employee employee : employees) {
+            employee.setVersion(0L);
+            bulkOperations.insert(employee);
+        }
+
+        return executeCollectingErrors(bulkOperations);
+    }
+
+    private static Map<Integer, String> executeCollectingErrors(BulkOperations bulkOperations) {
+        Map<Integer, String> errors = new HashMap<>();
+        try {
+            bulkOperations.execute();
+        } catch (BulkOperationException exception) {
+            exception.getErrors().forEach(error -> errors.put(error.getIndex(), error.getMessage()));
+        }
+
+        return errors;
+    }
+
+    @Override
+    public Map<String, String> findCompanyIdsByIds(Collection<String> ids) {
+        Query query = Query.query(Criteria.where("id").in(ids));
+        query.fields().include("companyId");
+
+        Map<String, String> companyIds = new HashMap<>();
+        this.mongoTemplate.find(query, Employee.class).forEach(employee -> companyIds.put(employee.getId(), employee.getCompanyId()));
+
+        return companyIds;
+    }
+
+    @Override
+    public Optional<Employee> findAndReplaceById(String id, Employee employee) {
+        return Optional.ofNullable(this.mongoTemplate.findAndModify(Query.query(Criteria.where("id").is(id)), toUpdate(employee).inc("version", 1), Employee.class));
+    }
+
+    @Override
+    public Optional<Long> findVersionById(String id) {
+        Query query = Query.query(Criteria.where("id").is(id));
+        query.fields().include("version");
+
+        return Optional.ofNullable(this.mongoTemplate.findOne(query, Employee.class))
+                .map(employee -> employee.getVersion() == null ? 0L : employee.getVersion());
+    }
+
+    @Override
+    public Optional<Employee> findAndRemoveById(String id) {
+        return Optional.ofNullable(this.mongoTemplate.findAndRemove(Query.query(Criteria.where("id").is(id)), Employee.class));
+    }
+
+    @Override
+    public List<EmployeeStats> aggregateStats(String companyId, String groupBy) {
+        List<AggregationOperation> operations = new ArrayList<>();
+        if (companyId != null) {
+            operations.add(Aggregation.match(Criteria.where("companyId").is(companyId)));
+        }
+
+        GroupOperation group = groupOf(groupBy).count().as("count");
+        for (String field : STATS_FIELDS) {
+            group = group
+                    .sum(nonNullCountOf(field)).as(field + "Count")
+                    .sum(field).as(field + "Sum")
+                    .avg(field).as(field + "Average")
+                    .min(field).as(field + "Min")
+                    .max(field).as(field + "Max");
+        }
+        operations.add(group);
+        operations.add(Aggregation.sort(Sort.Direction.ASC, "_id"));
+
+        Aggregation aggregation = Aggregation.newAggregation(Employee.class, operations)
+                .withOptions(Aggregation.newAggregationOptions().allowDiskUse(true).build());
+
+        List<EmployeeStats> stats = new ArrayList<>();
+        for (Document result : this.mongoTemplate.aggregate(aggregation, Document.class).getMappedResults()) {
+            Object groupValue = result.get("_id");
+            EmployeeStats groupStats = new EmployeeStats(Objects.toString(groupValue, null), result.get("count", Number.class).longValue());
+
+            for (String field : STATS_FIELDS) {
+                Criteria scope = Criteria.where(field).ne(null);
+                if (companyId != null) {
+                    scope.and("companyId").is(companyId);
+                }
+                if (groupBy != null) {
+                    scope.and(groupBy).is(groupValue);
+                }
+
+                FieldStats fieldStats = this.toFieldStats(result, field, scope);
+                if ("salary".equals(field)) {
+                    groupStats.setSalary(fieldStats);
+                } else {
+                    groupStats.setAge(fieldStats);
+                }
+            }
+
+            stats.add(groupStats);
+        }
+
+        return stats;
+    }
+
+    private static Criteria afterValue(String sortField, Sort.Direction sortDirection, Object value, ObjectId lastId) {
+        List<Criteria> following = new ArrayList<>();
+        Criteria tie = Criteria.where(sortField).is(value).and("id").gt(lastId);
+
+        if (value == null) {
+            if (sortDirection.isAscending()) {
+                following.add(Criteria.where(sortField).ne(null));
+            }
+        } else {
+            following.add(sortDirection.isAscending() ? Criteria.where(sortField).gt(value) : Criteria.where(sortField).lt(value));
+            if (!sortDirection.isAscending()) {
+                following.add(Criteria.where(sortField).is(null));
+            }
+        }
+        following.add(tie);
+
+        return new Criteria().orOperator(following.toArray(new Criteria[0]));
+    }
+
+    private static GroupOperation groupOf(String groupBy) {
+        return groupBy == null ? Aggregation.group() : Aggregation.group(groupBy);
+    }
+
+    private static AggregationExpression nonNullCountOf(String field) {
+        return context -> new Document("$cond", Arrays.asList(
+                new Document("$gt", Arrays.asList("$" + field, null)),
+                1,
+                0
+        ));
+    }
+
+    private FieldStats toFieldStats(Document result, String field, Criteria scope) {
+        long count = result.get(field + "Count", Number.class).longValue();
+        if (count == 0) {
+            return new FieldStats();
+        }
+
+        return new FieldStats(
+                count,
+                result.get(field + "Sum", Number.class).longValue(),
+                result.get(field + "Average", Number.class).doubleValue(),
+                intValueOf(result, field + "Min"),
+                intValueOf(result, field + "Max"),
+                this.percentileOf(scope, field, count, 0.50),
+                this.percentileOf(scope, field, count, 0.90),
+                this.percentileOf(scope, field, count, 0.99)
+        );
+    }
+
+    // nearest-rank percentile read off the field's index, so memory stays constant
+    // however large the group is; a value removed since the counts were taken yields null
+    private Integer percentileOf(Criteria scope, String field, long count, double percentile) {
+        Query query = Query.query(scope)
+                .with(Sort.by(Sort.Direction.ASC, field))
+                .skip((long) Math.ceil(percentile * count) - 1)
+                .limit(1);
+        query.fields().include(field).exclude("_id");
+
+        Document value = this.mongoTemplate.findOne(query, Document.class, this.mongoTemplate.getCollectionName(Employee.class));
+
+        return value == null ? null : intValueOf(value, field);
+    }
+
+    private static Integer intValueOf(Document document, String key) {
+        Number value = document.get(key, Number.class);
+
+        return value == null ? null : value.intValue();
+    }
+
+    private static void addRange(Query query, String field, Integer min, Integer max) {
+        if (min == null && max == null) {
+            return;
+        }
+
+        Criteria range = Criteria.where(field);
+        if (min != null) {
+            range.gte(min);
+        }
+        if (max != null) {
+            range.lte(max);
+        }
+        query.addCriteria(range);
+    }
+
+    static Update toUpdate(Employee employee) {
+        return new Update()
+                .set("name", employee.getName())
+                .set("age", employee.getAge())
+                .set("gender", employee.getGender())
+                .set("salary", employee.getSalary())
+                .set("companyId", employee.getCompanyId());
+    }
+}
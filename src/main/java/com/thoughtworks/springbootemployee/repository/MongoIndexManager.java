@@ -0,0 +1,124 @@
+package com.thoughtworks.springbootemployee.repository;
+
+import com.thoughtworks.springbootemployee.entity.Company;
+import com.thoughtworks.springbootemployee.entity.Employee;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+public class MongoIndexManager {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MongoIndexManager.class);
+
+    private static final List<Class<?>> INDEXED_ENTITIES = Arrays.asList(Employee.class, Company.class);
+
+    private static final String ID_INDEX_NAME = "_id_";
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MongoMappingContext mongoMappingContext;
+
+    @Value("${mongo.indexes.auto-create:true}")
+    private boolean autoCreate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        MongoPersistentEntityIndexResolver indexResolver = new MongoPersistentEntityIndexResolver(this.mongoMappingContext);
+
+        for (Class<?> entity : INDEXED_ENTITIES) {
+            List<IndexDefinition> declaredIndexes = new ArrayList<>();
+            indexResolver.resolveIndexFor(entity).forEach(declaredIndexes::add);
+
+            if (this.autoCreate) {
+                IndexOperations indexOperations = this.mongoTemplate.indexOps(entity);
+                declaredIndexes.forEach(indexOperations::ensureIndex);
+            }
+
+            this.checkIndexes(entity, declaredIndexes);
+        }
+    }
+
+    @Scheduled(cron = "${mongo.indexes.usage-check-cron:0 0 4 * * *}")
+    public void reportUnusedIndexes() {
+        for (Class<?> entity : INDEXED_ENTITIES) {
+            String collectionName = this.mongoTemplate.getCollectionName(entity);
+
+            this.findUnusedIndexes(entity).forEach(name ->
+                    LOGGER.warn("Index {} on collection {} is unused, it has no accesses since server start.", name, collectionName));
+        }
+    }
+
+    public List<String> findUnusedIndexes(Class<?> entity) {
+        return this.indexAccesses(this.mongoTemplate.getCollectionName(entity)).entrySet().stream()
+                .filter(access -> !ID_INDEX_NAME.equals(access.getKey()) && access.getValue() == 0)
+                .map(Map.Entry::getKey)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private void checkIndexes(Class<?> entity, List<IndexDefinition> declaredIndexes) {
+        String collectionName = this.mongoTemplate.getCollectionName(entity);
+
+        Map<String, String> existingIndexes = new HashMap<>();
+        for (Document index : this.mongoTemplate.getCollection(collectionName).listIndexes()) {
+            existingIndexes.put(keySignature(index.get("key", Document.class)), index.getString("name"));
+        }
+
+        Set<String> declaredSignatures = declaredIndexes.stream()
+                .map(index -> keySignature(index.getIndexKeys()))
+                .collect(Collectors.toSet());
+
+        declaredSignatures.stream()
+                .filter(signature -> !existingIndexes.containsKey(signature))
+                .forEach(signature -> LOGGER.warn("Missing index {} on collection {} declared by {}.", signature, collectionName, entity.getSimpleName()));
+
+        existingIndexes.forEach((signature, name) -> {
+            if (!ID_INDEX_NAME.equals(name) && !declaredSignatures.contains(signature)) {
+                LOGGER.warn("Index {} on collection {} is undeclared, {} does not declare it.", name, collectionName, entity.getSimpleName());
+            }
+        });
+    }
+
+    private Map<String, Long> indexAccesses(String collectionName) {
+        Map<String, Long> accesses = new HashMap<>();
+        for (Document stats : this.mongoTemplate.getCollection(collectionName)
+                .aggregate(Collections.singletonList(new Document("$indexStats", new Document())))) {
+            Number operations = stats.get("accesses", Document.class).get("ops", Number.class);
+            accesses.put(stats.getString("name"), operations.longValue());
+        }
+
+        return accesses;
+    }
+
+    private static String keySignature(Document keys) {
+        if (keys.containsKey("_fts") || keys.containsValue("text")) {
+            return "text";
+        }
+
+        return keys.entrySet().stream()
+                .map(key -> key.getKey() + ":" + (key.getValue() instanceof Number ? ((Number) key.getValue()).intValue() : key.getValue()))
+                .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,38 @@
+package com.thoughtworks.springbootemployee.repository;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MongoTopology {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MongoTopology.class);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private volatile Boolean replicaSet;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void detect() {
+        this.isReplicaSet();
+    }
+
+    public boolean isReplicaSet() {
+        if (this.replicaSet == null) {
+            try {
+                this.replicaSet = this.mongoTemplate.executeCommand(new Document("isMaster", 1)).containsKey("setName");
+            } catch (RuntimeException exception) {
+                LOGGER.warn("Could not detect a replica set, assuming a standalone server.", exception);
+                return false;
+            }
+        }
+
+        return this.replicaSet;
+    }
+}
@@ -0,0 +1,10 @@
+package com.thoughtworks.springbootemployee.repository;
+
+import com.thoughtworks.springbootemployee.entity.Company;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+
+public interface ReactiveCompanyRepository extends ReactiveMongoRepository<Company, String>, ReactiveCompanyRepositoryCustom {
+    Flux<Company> findAllBy(Pageable pageable);
+}
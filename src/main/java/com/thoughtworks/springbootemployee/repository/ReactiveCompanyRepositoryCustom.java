@@ -0,0 +1,15 @@
+package com.thoughtworks.springbootemployee.repository;
+
+import com.thoughtworks.springbootemployee.entity.Company;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveCompanyRepositoryCustom {
+    Flux<Company> findAllAfter(String lastId, int limit);
+
+    Mono<Company> findAndUpdateById(String id, Company company);
+
+    Mono<Company> incrementEmployeesNumber(String id, int delta);
+
+    Mono<Boolean> removeById(String id);
+}
@@ -0,0 +1,57 @@
+package com.thoughtworks.springbootemployee.repository;
+
+import com.thoughtworks.springbootemployee.entity.Company;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class ReactiveCompanyRepositoryCustomImpl implements ReactiveCompanyRepositoryCustom {
+    @Autowired
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Flux<Company> findAllAfter(String lastId, int limit) {
+        Query query = new Query()
+                .with(Sort.by(Sort.Direction.ASC, "id"))
+                .limit(limit);
+
+        if (lastId != null) {
+            query.addCriteria(Criteria.where("id").gt(new ObjectId(lastId)));
+        }
+
+        return this.reactiveMongoTemplate.find(query, Company.class);
+    }
+
+    @Override
+    public Mono<Company> findAndUpdateById(String id, Company company) {
+        return this.reactiveMongoTemplate.findAndModify(
+                Query.query(Criteria.where("id").is(id)),
+                new Update().set("companyName", company.getCompanyName()).inc("version", 1),
+                FindAndModifyOptions.options().returnNew(true),
+                Company.class
+        );
+    }
+
+    @Override
+    public Mono<Company> incrementEmployeesNumber(String id, int delta) {
+        return this.reactiveMongoTemplate.findAndModify(
+                Query.query(Criteria.where("id").is(id)),
+                new Update().inc("employeesNumber", delta).inc("version", 1),
+                FindAndModifyOptions.options().returnNew(true),
+                Company.class
+        );
+    }
+
+    @Override
+    public Mono<Boolean> removeById(String id) {
+        return this.reactiveMongoTemplate.remove(Query.query(Criteria.where("id").is(id)), Company.class)
+                .map(deleteResult -> deleteResult.getDeletedCount() > 0);
+    }
+}
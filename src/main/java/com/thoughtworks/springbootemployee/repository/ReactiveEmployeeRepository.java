@@ -0,0 +1,18 @@
+package com.thoughtworks.springbootemployee.repository;
+
+import com.thoughtworks.springbootemployee.entity.Employee;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+
+public interface ReactiveEmployeeRepository extends ReactiveMongoRepository<Employee, String>, ReactiveEmployeeRepositoryCustom {
+    Flux<Employee> findAllBy(Pageable pageable);
+
+    Flux<Employee> findAllByGender(String gender);
+
+    Flux<Employee> findAllByCompanyId(String companyId);
+
+    Flux<Employee> findAllByCompanyIdIn(Collection<String> companyIds);
+}
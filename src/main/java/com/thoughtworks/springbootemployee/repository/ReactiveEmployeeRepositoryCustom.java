@@ -0,0 +1,13 @@
+package com.thoughtworks.springbootemployee.repository;
+
+import com.thoughtworks.springbootemployee.entity.Employee;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveEmployeeRepositoryCustom {
+    Flux<Employee> findAllAfter(String lastId, int limit);
+
+    Mono<Employee> findAndReplaceById(String id, Employee employee);
+
+    Mono<Employee> findAndRemoveById(String id);
+}
@@ -0,0 +1,39 @@
+package com.thoughtworks.springbootemployee.repository;
+
+import com.thoughtworks.springbootemployee.entity.Employee;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class ReactiveEmployeeRepositoryCustomImpl implements ReactiveEmployeeRepositoryCustom {
+    @Autowired
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Flux<Employee> findAllAfter(String lastId, int limit) {
+        Query query = new Query()
+                .with(Sort.by(Sort.Direction.ASC, "id"))
+                .limit(limit);
+
+        if (lastId != null) {
+            query.addCriteria(Criteria.where("id").gt(new ObjectId(lastId)));
+        }
+
+        return this.reactiveMongoTemplate.find(query, Employee.class);
+    }
+
+    @Override
+    public Mono<Employee> findAndReplaceById(String id, Employee employee) {
+        return this.reactiveMongoTemplate.findAndModify(Query.query(Criteria.where("id").is(id)), EmployeeRepositoryCustomImpl.toUpdate(employee).inc("version", 1), Employee.class);
+    }
+
+    @Override
+    public Mono<Employee> findAndRemoveById(String id) {
+        return this.reactiveMongoTemplate.findAndRemove(Query.query(Criteria.where("id").is(id)), Employee.class);
+    }
+}
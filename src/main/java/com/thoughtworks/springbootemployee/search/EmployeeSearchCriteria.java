@@ -0,0 +1,153 @@
+package com.thoughtworks.springbootemployee.search;
+
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class EmployeeSearchCriteria {
+    public static final List<String> SORT_FIELDS = Arrays.asList("id", "name", "age", "salary");
+
+    private static final String DEFAULT_SORT_FIELD = "id";
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    private String gender;
+    private String companyId;
+    private String name;
+    private Integer minAge;
+    private Integer maxAge;
+    private Integer minSalary;
+    private Integer maxSalary;
+    private String sort;
+    private Integer page;
+    private Integer pageSize;
+    private Integer limit;
+    private String after;
+
+    public String getSortField() {
+        if (this.sort == null || this.sort.trim().isEmpty()) {
+            return DEFAULT_SORT_FIELD;
+        }
+
+        String field = this.sort.split(",")[0].trim();
+        if (!SORT_FIELDS.contains(field)) {
+            throw new IllegalArgumentException("Sort must be one of " + SORT_FIELDS + ".");
+        }
+
+        return field;
+    }
+
+    public Sort.Direction getSortDirection() {
+        String[] sortParts = this.sort == null ? new String[0] : this.sort.split(",");
+        if (sortParts.length < 2) {
+            return Sort.Direction.ASC;
+        }
+
+        return Sort.Direction.fromOptionalString(sortParts[1].trim())
+                .orElseThrow(() -> new IllegalArgumentException("Sort direction must be asc or desc."));
+    }
+
+    public boolean isKeyset() {
+        return this.limit != null;
+    }
+
+    public boolean hasOffsetPaging() {
+        return this.page != null || this.pageSize != null;
+    }
+
+    public String getGender() {
+        return gender;
+    }
+
+    public void setGender(String gender) {
+        this.gender = gender;
+    }
+
+    public String getCompanyId() {
+        return companyId;
+    }
+
+    public void setCompanyId(String companyId) {
+        this.companyId = companyId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Integer getMinAge() {
+        return minAge;
+    }
+
+    public void setMinAge(Integer minAge) {
+        this.minAge = minAge;
+    }
+
+    public Integer getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(Integer maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public Integer getMinSalary() {
+        return minSalary;
+    }
+
+    public void setMinSalary(Integer minSalary) {
+        this.minSalary = minSalary;
+    }
+
+    public Integer getMaxSalary() {
+        return maxSalary;
+    }
+
+    public void setMaxSalary(Integer maxSalary) {
+        this.maxSalary = maxSalary;
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public void setSort(String sort) {
+        this.sort = sort;
+    }
+
+    public Integer getPage() {
+        return page == null || page < 1 ? 1 : page;
+    }
+
+    public void setPage(Integer page) {
+        this.page = page;
+    }
+
+    public Integer getPageSize() {
+        return pageSize == null ? DEFAULT_PAGE_SIZE : pageSize;
+    }
+
+    public void setPageSize(Integer pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+
+    public String getAfter() {
+        return after;
+    }
+
+    public void setAfter(String after) {
+        this.after = after;
+    }
+}
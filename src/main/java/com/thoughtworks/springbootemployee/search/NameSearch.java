@@ -0,0 +1,79 @@
+package com.thoughtworks.springbootemployee.search;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+public final class NameSearch {
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+
+    private NameSearch() {
+    }
+
+    public static String checkText(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            throw new IllegalArgumentException("Search text must not be blank.");
+        }
+
+        return text.trim();
+    }
+
+    public static int checkLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT + ".");
+        }
+
+        return limit;
+    }
+
+    public static <T> List<T> find(MongoTemplate mongoTemplate, Class<T> type, String field, String text, int limit, Function<T, String> idOf) {
+        Map<String, T> matches = new LinkedHashMap<>();
+
+        Query wordQuery = TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(text))
+                .sortByScore()
+                .limit(limit);
+        mongoTemplate.find(wordQuery, type).forEach(match -> matches.putIfAbsent(idOf.apply(match), match));
+
+        if (matches.size() < limit) {
+            Query prefixQuery = new Query(Criteria.where(field).in(prefixPatterns(text)))
+                    .with(Sort.by(Sort.Direction.ASC, field))
+                    .limit(limit);
+            mongoTemplate.find(prefixQuery, type).forEach(match -> matches.putIfAbsent(idOf.apply(match), match));
+        }
+
+        return new ArrayList<>(matches.values()).subList(0, Math.min(limit, matches.size()));
+    }
+
+    public static String escape(String literal) {
+        return literal.replaceAll("[\\\\^$.|?*+()\\[\\]{}]", "\\\\$0");
+    }
+
+    private static List<Pattern> prefixPatterns(String text) {
+        Set<String> prefixes = new LinkedHashSet<>();
+        prefixes.add(text);
+        prefixes.add(text.toLowerCase(Locale.ROOT));
+        prefixes.add(text.substring(0, 1).toUpperCase(Locale.ROOT) + text.substring(1).toLowerCase(Locale.ROOT));
+
+        List<Pattern> patterns = new ArrayList<>();
+        prefixes.forEach(prefix -> patterns.add(Pattern.compile("^" + escape(prefix))));
+
+        return patterns;
+    }
+}
@@ -0,0 +1,78 @@
+package com.thoughtworks.springbootemployee.search;
+
+import com.thoughtworks.springbootemployee.entity.Employee;
+import org.bson.BsonInvalidOperationException;
+import org.bson.Document;
+import org.bson.json.JsonParseException;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public final class SearchCursor {
+    private static final String ID_KEY = "i";
+    private static final String SORT_FIELD_KEY = "s";
+    private static final String VALUE_KEY = "v";
+
+    private final String id;
+    private final String sortField;
+    private final Object value;
+
+    private SearchCursor(String id, String sortField, Object value) {
+        this.id = id;
+        this.sortField = sortField;
+        this.value = value;
+    }
+
+    public static String encode(Employee last, String sortField) {
+        Document cursor = new Document(ID_KEY, new ObjectId(last.getId()))
+                .append(SORT_FIELD_KEY, sortField)
+                .append(VALUE_KEY, valueOf(last, sortField));
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.toJson().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+
+        try {
+            Document document = Document.parse(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+            ObjectId id = document.getObjectId(ID_KEY);
+            String sortField = document.getString(SORT_FIELD_KEY);
+            if (id == null || sortField == null) {
+                throw new IllegalArgumentException("Invalid cursor.");
+            }
+
+            return new SearchCursor(id.toHexString(), sortField, document.get(VALUE_KEY));
+        } catch (JsonParseException | BsonInvalidOperationException | ClassCastException exception) {
+            throw new IllegalArgumentException("Invalid cursor.");
+        }
+    }
+
+    private static Object valueOf(Employee employee, String sortField) {
+        switch (sortField) {
+            case "name":
+                return employee.getName();
+            case "age":
+                return employee.getAge();
+            case "salary":
+                return employee.getSalary();
+            default:
+                return null;
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getSortField() {
+        return sortField;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+}
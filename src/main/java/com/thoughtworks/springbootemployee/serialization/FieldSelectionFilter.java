@@ -0,0 +1,18 @@
+package com.thoughtworks.springbootemployee.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.thoughtworks.springbootemployee.projection.FieldSelectable;
+
+public class FieldSelectionFilter extends SimpleBeanPropertyFilter {
+    @Override
+    public void serializeAsField(Object pojo, JsonGenerator generator, SerializerProvider provider, PropertyWriter writer) throws Exception {
+        if (!(pojo instanceof FieldSelectable) || ((FieldSelectable) pojo).isSelected(writer.getName())) {
+            writer.serializeAsField(pojo, generator, provider);
+        } else if (!generator.canOmitFields()) {
+            writer.serializeAsOmittedField(pojo, generator, provider);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.thoughtworks.springbootemployee.serialization;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.thoughtworks.springbootemployee.projection.FieldSelectable;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FieldSelectionJacksonConfiguration {
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldSelectionFilterCustomizer() {
+        return builder -> builder.filters(new SimpleFilterProvider().addFilter(FieldSelectable.FILTER_ID, new FieldSelectionFilter()));
+    }
+}
@@ -0,0 +1,28 @@
+package com.thoughtworks.springbootemployee.serialization;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+@Configuration
+@Profile("performance")
+public class PerformanceJacksonConfiguration {
+    @Bean
+    public Module afterburnerModule() {
+        return new AfterburnerModule();
+    }
+
+    @Bean
+    public ResponseWriters responseWriters(ObjectMapper objectMapper) {
+        return new ResponseWriters(objectMapper);
+    }
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper, ResponseWriters responseWriters) {
+        return new ResponseWritersHttpMessageConverter(objectMapper, responseWriters);
+    }
+}
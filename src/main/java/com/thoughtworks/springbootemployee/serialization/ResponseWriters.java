@@ -0,0 +1,46 @@
+package com.thoughtworks.springbootemployee.serialization;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.thoughtworks.springbootemployee.dto.CompanyResponse;
+import com.thoughtworks.springbootemployee.dto.EmployeeResponse;
+
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ResponseWriters {
+    private final ObjectMapper objectMapper;
+
+    private final Map<JavaType, ObjectWriter> writersByType = new HashMap<>();
+
+    private final ObjectWriter employeeWriter;
+
+    public ResponseWriters(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.employeeWriter = this.register(objectMapper.constructType(EmployeeResponse.class));
+        this.register(objectMapper.constructType(CompanyResponse.class));
+        this.register(objectMapper.getTypeFactory().constructType(new TypeReference<List<EmployeeResponse>>() {
+        }));
+        this.register(objectMapper.getTypeFactory().constructType(new TypeReference<List<CompanyResponse>>() {
+        }));
+    }
+
+    public ObjectWriter getEmployeeWriter() {
+        return this.employeeWriter;
+    }
+
+    public ObjectWriter writerFor(Type type) {
+        return type == null ? null : this.writersByType.get(this.objectMapper.constructType(type));
+    }
+
+    private ObjectWriter register(JavaType type) {
+        ObjectWriter writer = this.objectMapper.writerFor(type);
+        this.writersByType.put(type, writer);
+
+        return writer;
+    }
+}
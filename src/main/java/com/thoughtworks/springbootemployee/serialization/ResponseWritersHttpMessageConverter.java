@@ -0,0 +1,41 @@
+package com.thoughtworks.springbootemployee.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageConversionException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+public class ResponseWritersHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+    private final ResponseWriters responseWriters;
+
+    public ResponseWritersHttpMessageConverter(ObjectMapper objectMapper, ResponseWriters responseWriters) {
+        super(objectMapper);
+        this.responseWriters = responseWriters;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        ObjectWriter writer = object instanceof MappingJacksonValue ? null : this.responseWriters.writerFor(type);
+        if (writer == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        JsonGenerator generator = this.getObjectMapper().getFactory()
+                .createGenerator(StreamUtils.nonClosing(outputMessage.getBody()), this.getJsonEncoding(outputMessage.getHeaders().getContentType()));
+        try {
+            writer.writeValue(generator, object);
+            generator.flush();
+        } catch (InvalidDefinitionException exception) {
+            throw new HttpMessageConversionException("Type definition error: " + exception.getType(), exception);
+        }
+    }
+}
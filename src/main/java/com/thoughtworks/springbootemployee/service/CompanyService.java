@@ -1,17 +1,37 @@
 package com.thoughtworks.springbootemployee.service;
 
+import com.thoughtworks.springbootemployee.concurrency.FanOutExecutor;
 import com.thoughtworks.springbootemployee.entity.Company;
 import com.thoughtworks.springbootemployee.entity.Employee;
 import com.thoughtworks.springbootemployee.exception.CompanyNotFoundException;
+import com.thoughtworks.springbootemployee.pagination.LimitedList;
+import com.thoughtworks.springbootemployee.pagination.ListLimits;
+import com.thoughtworks.springbootemployee.repository.CascadePolicy;
 import com.thoughtworks.springbootemployee.repository.CompanyRepository;
 import com.thoughtworks.springbootemployee.repository.EmployeeRepository;
+import com.thoughtworks.springbootemployee.search.NameSearch;
+import com.thoughtworks.springbootemployee.statistics.EmployeeStats;
+import com.thoughtworks.springbootemployee.view.CompanyEmployeesView;
+import org.apache.logging.log4j.util.Strings;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.StreamSupport;
+import java.util.stream.Collectors;
 
 @Service("companyService")
 public class CompanyService {
@@ -21,6 +41,18 @@ public class CompanyService {
     @Autowired
     EmployeeRepository employeeRepository;
 
+    @Autowired
+    CompanyEmployeesView companyEmployeesView;
+
+    @Autowired
+    FanOutExecutor fanOutExecutor;
+
+    @Autowired
+    ListLimits listLimits;
+
+    @Value("${fan-out.partition-size:100}")
+    private int fanOutPartitionSize;
+
     public List<Company> findAll() {
         return this.companyRepository.findAll();
     }
@@ -29,38 +61,162 @@ public class CompanyService {
         return this.companyRepository.findAll(pageable);
     }
 
+    public LimitedList<Company> findAll(Set<String> fields) {
+        return this.listLimits.truncate(this.companyRepository.findAllProjected(this.listLimits.firstPage(), fields));
+    }
+
+    public List<Company> findAll(Pageable pageable, Set<String> fields) {
+        if(pageable.isPaged()) {
+            this.listLimits.checkPageSize(pageable.getPageSize());
+        }
+
+        return this.companyRepository.findAllProjected(pageable, fields);
+    }
+
+    public List<Company> findAllAfter(String lastId, int limit) {
+        return this.findAllAfter(lastId, limit, null);
+    }
+
+    public List<Company> findAllAfter(String lastId, int limit, Set<String> fields) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must not be less than one.");
+        }
+        this.listLimits.checkPageSize(limit);
+
+        return this.companyRepository.findAllAfter(lastId, limit, fields);
+    }
+
+    public List<Company> searchByName(String text, Integer limit) {
+        return this.companyRepository.searchByName(NameSearch.checkText(text), NameSearch.checkLimit(limit));
+    }
+
+    @Cacheable(cacheNames = "companies", key = "#id")
     public Company findCompanyById(String id) throws CompanyNotFoundException {
         return this.companyRepository.findById(id).orElseThrow(CompanyNotFoundException::new);
     }
 
-    public List<Employee> findCompanyEmployeesById(String id) throws CompanyNotFoundException {
+    public long findVersionById(String id) throws CompanyNotFoundException {
+        return this.companyRepository.findVersionById(id).orElseThrow(CompanyNotFoundException::new);
+    }
+
+    public Set<String> findExistingIds(Collection<String> ids) {
+        if(ids.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        return StreamSupport.stream(this.companyRepository.findAllById(ids).spliterator(), false)
+                .map(Company::getId)
+                .collect(Collectors.toSet());
+    }
+
+    public LimitedList<Employee> findCompanyEmployeesById(String id) throws CompanyNotFoundException {
         Optional<Company> company = this.companyRepository.findById(id);
         if(!company.isPresent()) {
             throw new CompanyNotFoundException();
         }
 
-        return this.employeeRepository.findAllByCompanyId(id);
+        if(this.companyEmployeesView.isLoaded()) {
+            return this.listLimits.truncate(this.companyEmployeesView.findAllByCompanyId(id, this.listLimits.getDefaultLimit() + 1));
+        }
+
+        return this.listLimits.truncate(this.employeeRepository.findAllByCompanyId(id, this.listLimits.firstPage()));
     }
 
+    public EmployeeStats findCompanyStatsById(String id) throws CompanyNotFoundException {
+        if(!this.companyRepository.existsById(id)) {
+            throw new CompanyNotFoundException();
+        }
+
+        return this.employeeRepository.aggregateStats(id, null).stream()
+                .findFirst()
+                .orElseGet(EmployeeStats::new);
+    }
+
+    public Map<String, LimitedList<Employee>> findEmployeesByCompanyIds(Collection<String> ids) {
+        if(ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        int limitPerCompany = this.listLimits.getEmbeddedLimit() + 1;
+        Map<String, List<Employee>> employeesByCompanyId;
+        if(this.companyEmployeesView.isLoaded()) {
+            employeesByCompanyId = this.companyEmployeesView.findAllByCompanyIdIn(ids, limitPerCompany);
+        } else if(this.fanOutExecutor.isEnabled() && ids.size() > this.fanOutPartitionSize) {
+            employeesByCompanyId = this.fanOutExecutor.map(partition(ids, this.fanOutPartitionSize), partition -> this.employeeRepository.findAllByCompanyIdIn(partition, limitPerCompany)).stream()
+                    .flatMap(List::stream)
+                    .collect(Collectors.groupingBy(Employee::getCompanyId));
+        } else {
+            employeesByCompanyId = this.employeeRepository.findAllByCompanyIdIn(ids, limitPerCompany).stream()
+                    .collect(Collectors.groupingBy(Employee::getCompanyId));
+        }
+
+        return employeesByCompanyId.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, employees -> this.listLimits.truncateEmbedded(employees.getValue())));
+    }
+
+    @CachePut(cacheNames = "companies", key = "#result.id")
     public Company add(Company company) {
         return this.companyRepository.insert(company);
     }
 
+    @CacheEvict(cacheNames = "companies", key = "#id")
     public Company replace(String id, Company company) throws CompanyNotFoundException {
-        if(!this.companyRepository.existsById(id)) {
-            throw new CompanyNotFoundException();
+        return this.companyRepository.findAndUpdateById(id, company).orElseThrow(CompanyNotFoundException::new);
+    }
+
+    @CachePut(cacheNames = "companies", key = "#id", unless = "#result == null")
+    public Company adjustEmployeesNumber(String id, int delta) {
+        return this.companyRepository.incrementEmployeesNumber(id, delta).orElse(null);
+    }
+
+    @CacheEvict(cacheNames = "companies", allEntries = true)
+    public void adjustEmployeesNumbers(Map<String, Integer> deltas) {
+        if(!deltas.isEmpty()) {
+            this.companyRepository.incrementEmployeesNumbers(deltas);
+        }
+    }
+
+    @CacheEvict(cacheNames = "companies", allEntries = true)
+    public int reconcileEmployeesNumbers() {
+        return this.companyRepository.reconcileEmployeesNumbers();
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "companies", key = "#id"),
+            @CacheEvict(cacheNames = "companies", key = "#reassignTo", condition = "#reassignTo != null"),
+            @CacheEvict(cacheNames = "employees", allEntries = true, condition = "#policy.name() != 'NONE'")
+    })
+    public long delete(String id, CascadePolicy policy, String reassignTo) throws CompanyNotFoundException {
+        if(policy == CascadePolicy.NONE) {
+            if(!this.companyRepository.removeById(id)) {
+                throw new CompanyNotFoundException();
+            }
+            return 0;
+        }
+
+        if(policy == CascadePolicy.REASSIGN) {
+            if(Strings.isEmpty(reassignTo) || reassignTo.equals(id)) {
+                throw new IllegalArgumentException("Reassign requires another company id.");
+            }
+            if(!this.companyRepository.existsById(reassignTo)) {
+                throw new CompanyNotFoundException();
+            }
         }
 
-        company.setId(id);
+        long affected = this.companyRepository.removeByIdCascading(id, policy, reassignTo).orElseThrow(CompanyNotFoundException::new);
+        this.companyEmployeesView.moveAll(id, policy == CascadePolicy.REASSIGN ? reassignTo : null);
 
-        return this.companyRepository.save(company);
+        return affected;
     }
 
-    public void delete(String id) throws CompanyNotFoundException {
-        if(!this.companyRepository.existsById(id)) {
-            throw new CompanyNotFoundException();
+    private static List<List<String>> partition(Collection<String> ids, int size) {
+        List<String> idList = new ArrayList<>(ids);
+        List<List<String>> partitions = new ArrayList<>();
+
+        for (int from = 0; from < idList.size(); from += size) {
+            partitions.add(idList.subList(from, Math.min(from + size, idList.size())));
         }
 
-        this.companyRepository.deleteById(id);
+        return partitions;
     }
 }
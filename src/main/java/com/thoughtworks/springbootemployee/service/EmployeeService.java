@@ -1,18 +1,40 @@
 package com.thoughtworks.springbootemployee.service;
 
+import com.thoughtworks.springbootemployee.dto.EmployeeBulkItemResponse;
 import com.thoughtworks.springbootemployee.entity.Employee;
 import com.thoughtworks.springbootemployee.exception.CompanyNotFoundException;
 import com.thoughtworks.springbootemployee.exception.EmployeeNotFoundException;
-import com.thoughtworks.springbootemployee.repository.CompanyRepository;
+import com.thoughtworks.springbootemployee.exception.ExportNotAllowedException;
+import com.thoughtworks.springbootemployee.pagination.LimitedList;
+import com.thoughtworks.springbootemployee.pagination.ListLimits;
 import com.thoughtworks.springbootemployee.repository.EmployeeRepository;
+import com.thoughtworks.springbootemployee.search.EmployeeSearchCriteria;
+import com.thoughtworks.springbootemployee.search.NameSearch;
+import com.thoughtworks.springbootemployee.search.SearchCursor;
+import com.thoughtworks.springbootemployee.statistics.EmployeeStats;
+import com.thoughtworks.springbootemployee.view.CompanyEmployeesView;
 import org.apache.logging.log4j.util.Strings;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.util.CloseableIterator;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class EmployeeService {
@@ -20,53 +42,300 @@ public class EmployeeService {
     private EmployeeRepository employeeRepository;
 
     @Autowired
-    private CompanyRepository companyRepository;
+    private CompanyService companyService;
+
+    @Autowired
+    private CompanyEmployeesView companyEmployeesView;
+
+    @Autowired
+    private ListLimits listLimits;
+
+    private static final List<String> STATS_GROUP_BY_FIELDS = Arrays.asList("gender", "companyId");
+
+    @Value("${employee.bulk.chunk-size:1000}")
+    private int bulkChunkSize;
 
     public List<Employee> findAll() {
         return this.employeeRepository.findAll();
     }
 
-    public List<Employee> findAllByGender(String gender) {
-        return this.employeeRepository.findAllByGender(gender);
+    public LimitedList<Employee> findAll(Set<String> fields) {
+        return this.listLimits.truncate(this.employeeRepository.findAllProjected(this.listLimits.firstPage(), fields));
+    }
+
+    public CloseableIterator<Employee> streamAll() {
+        return this.employeeRepository.streamAll();
+    }
+
+    public void checkExportAllowed(String client) {
+        if (!this.listLimits.isExportRestricted()) {
+            return;
+        }
+        if (client == null) {
+            throw new ExportNotAllowedException("Exporting employees requires an authenticated client.");
+        }
+        if (!this.listLimits.isExportClient(client)) {
+            throw new ExportNotAllowedException("Client " + client + " is not allowed to export employees.");
+        }
+    }
+
+    public LimitedList<Employee> findAllByGender(String gender) {
+        return this.listLimits.truncate(this.employeeRepository.findAllByGender(gender, this.listLimits.firstPage()));
     }
 
     public Page<Employee> findAllWithPagination(Pageable pageable) {
         return this.employeeRepository.findAll(pageable);
     }
 
+    public List<Employee> findAll(Pageable pageable, Set<String> fields) {
+        if (pageable.isPaged()) {
+            this.listLimits.checkPageSize(pageable.getPageSize());
+        }
+
+        return this.employeeRepository.findAllProjected(pageable, fields);
+    }
+
+    public List<Employee> findAllAfter(String lastId, int limit) {
+        return this.findAllAfter(lastId, limit, null);
+    }
+
+    public List<Employee> findAllAfter(String lastId, int limit, Set<String> fields) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must not be less than one.");
+        }
+        this.listLimits.checkPageSize(limit);
+
+        return this.employeeRepository.findAllAfter(lastId, limit, fields);
+    }
+
+    public List<Employee> search(EmployeeSearchCriteria criteria, Set<String> fields) {
+        if (criteria.isKeyset() && criteria.hasOffsetPaging()) {
+            throw new IllegalArgumentException("Use either page and pageSize or limit and after.");
+        }
+        if (criteria.isKeyset() ? criteria.getLimit() < 1 : criteria.getPageSize() < 1) {
+            throw new IllegalArgumentException("Limit must not be less than one.");
+        }
+        this.listLimits.checkPageSize(criteria.isKeyset() ? criteria.getLimit() : criteria.getPageSize());
+        if (!criteria.isKeyset() && criteria.getAfter() != null) {
+            throw new IllegalArgumentException("After requires limit.");
+        }
+        checkRange("age", criteria.getMinAge(), criteria.getMaxAge());
+        checkRange("salary", criteria.getMinSalary(), criteria.getMaxSalary());
+
+        SearchCursor after = SearchCursor.decode(criteria.getAfter());
+        if (after != null && !after.getSortField().equals(criteria.getSortField())) {
+            throw new IllegalArgumentException("Cursor does not match sort.");
+        }
+
+        return this.employeeRepository.search(criteria, after, fields);
+    }
+
+    public List<Employee> searchByName(String text, Integer limit) {
+        return this.employeeRepository.searchByName(NameSearch.checkText(text), NameSearch.checkLimit(limit));
+    }
+
+    public List<EmployeeStats> findStats(String groupBy) {
+        if (groupBy != null && !STATS_GROUP_BY_FIELDS.contains(groupBy)) {
+            throw new IllegalArgumentException("Group by must be one of " + STATS_GROUP_BY_FIELDS + ".");
+        }
+
+        return this.employeeRepository.aggregateStats(null, groupBy);
+    }
+
+    public long findVersionById(String id) throws EmployeeNotFoundException {
+        return this.employeeRepository.findVersionById(id).orElseThrow(EmployeeNotFoundException::new);
+    }
+
+    @Cacheable(cacheNames = "employees", key = "#id")
     public Employee findEmployeeById(String id) throws EmployeeNotFoundException {
         return this.employeeRepository.findById(id).orElseThrow(EmployeeNotFoundException::new);
     }
 
+    @CachePut(cacheNames = "employees", key = "#result.id")
     public Employee add(Employee employee) throws CompanyNotFoundException {
         this.validateEntity(employee);
 
-        return this.employeeRepository.insert(employee);
+        Employee addedEmployee = this.employeeRepository.insert(employee);
+        this.companyEmployeesView.put(addedEmployee);
+        this.moveBetweenCompanies(null, addedEmployee.getCompanyId());
+
+        return addedEmployee;
     }
 
+    @CacheEvict(cacheNames = "employees", key = "#id")
     public Employee replace(String id, Employee employee) throws EmployeeNotFoundException, CompanyNotFoundException {
-        if (!this.employeeRepository.existsById(id)) {
-            throw new EmployeeNotFoundException();
+        try {
+            this.validateEntity(employee);
+        } catch (CompanyNotFoundException exception) {
+            if (!this.employeeRepository.existsById(id)) {
+                throw new EmployeeNotFoundException();
+            }
+            throw exception;
         }
 
-        this.validateEntity(employee);
-
         employee.setId(id);
 
-        return this.employeeRepository.save(employee);
+        Employee previousEmployee = this.employeeRepository.findAndReplaceById(id, employee).orElseThrow(EmployeeNotFoundException::new);
+        employee.setVersion(replacedVersionOf(previousEmployee));
+        this.companyEmployeesView.put(employee);
+        this.moveBetweenCompanies(previousEmployee.getCompanyId(), employee.getCompanyId());
+
+        return employee;
     }
 
+    @CacheEvict(cacheNames = "employees", key = "#id")
     public void delete(String id) throws EmployeeNotFoundException {
-        if (!this.employeeRepository.existsById(id)) {
-            throw new EmployeeNotFoundException();
+        Employee removedEmployee = this.employeeRepository.findAndRemoveById(id).orElseThrow(EmployeeNotFoundException::new);
+        this.companyEmployeesView.remove(id);
+        this.moveBetweenCompanies(removedEmployee.getCompanyId(), null);
+    }
+
+    @CacheEvict(cacheNames = "employees", allEntries = true)
+    public List<EmployeeBulkItemResponse> bulkUpsert(Iterator<Employee> employees) {
+        List<EmployeeBulkItemResponse> results = new ArrayList<>();
+        Map<String, Boolean> companyExistence = new HashMap<>();
+        List<Employee> chunk = new ArrayList<>();
+
+        while (employees.hasNext()) {
+            chunk.add(employees.next());
+
+            if (chunk.size() == this.bulkChunkSize || !employees.hasNext()) {
+                results.addAll(this.bulkUpsertChunk(chunk, results.size(), companyExistence));
+                chunk.clear();
+            }
+        }
+
+        return results;
+    }
+
+    // the companies were validated when the employees were accepted, and their ids are
+    // new, so there is no previous company to look up
+    public List<EmployeeBulkItemResponse> insertAll(List<Employee> employees) {
+        Map<Integer, String> errors = this.employeeRepository.bulkInsert(employees);
+
+        List<EmployeeBulkItemResponse> results = new ArrayList<>(employees.size());
+        Map<String, Integer> employeesNumberDeltas = new HashMap<>();
+
+        for (int index = 0; index < employees.size(); index++) {
+            Employee employee = employees.get(index);
+
+            if (errors.containsKey(index)) {
+                results.add(new EmployeeBulkItemResponse(index, employee.getId(), EmployeeBulkItemResponse.Status.FAILED, errors.get(index)));
+                continue;
+            }
+
+            results.add(new EmployeeBulkItemResponse(index, employee.getId(), EmployeeBulkItemResponse.Status.CREATED, null));
+            this.companyEmployeesView.put(employee);
+            if (Strings.isNotEmpty(employee.getCompanyId())) {
+                employeesNumberDeltas.merge(employee.getCompanyId(), 1, Integer::sum);
+            }
         }
 
-        this.employeeRepository.deleteById(id);
+        if (!employeesNumberDeltas.isEmpty()) {
+            this.companyService.adjustEmployeesNumbers(employeesNumberDeltas);
+        }
+
+        return results;
+    }
+
+    private List<EmployeeBulkItemResponse> bulkUpsertChunk(List<Employee> chunk, int offset, Map<String, Boolean> companyExistence) {
+        Set<String> uncheckedCompanyIds = chunk.stream()
+                .map(Employee::getCompanyId)
+                .filter(Strings::isNotEmpty)
+                .filter(companyId -> !companyExistence.containsKey(companyId))
+                .collect(Collectors.toSet());
+        Set<String> existingCompanyIds = this.companyService.findExistingIds(uncheckedCompanyIds);
+        uncheckedCompanyIds.forEach(companyId -> companyExistence.put(companyId, existingCompanyIds.contains(companyId)));
+
+        EmployeeBulkItemResponse[] results = new EmployeeBulkItemResponse[chunk.size()];
+        List<Employee> writes = new ArrayList<>();
+        List<Integer> writeIndexes = new ArrayList<>();
+        List<Boolean> writeIsInsert = new ArrayList<>();
+
+        for (int index = 0; index < chunk.size(); index++) {
+            Employee employee = chunk.get(index);
+
+            if (employee.getId() != null && !ObjectId.isValid(employee.getId())) {
+                results[index] = new EmployeeBulkItemResponse(offset + index, employee.getId(), EmployeeBulkItemResponse.Status.FAILED, "Invalid id.");
+            } else if (Strings.isNotEmpty(employee.getCompanyId()) && !companyExistence.get(employee.getCompanyId())) {
+                results[index] = new EmployeeBulkItemResponse(offset + index, employee.getId(), EmployeeBulkItemResponse.Status.FAILED, new CompanyNotFoundException().getMessage());
+            } else {
+                writeIndexes.add(index);
+                writeIsInsert.add(employee.getId() == null);
+                writes.add(employee);
+            }
+        }
+
+        List<String> upsertIds = writes.stream()
+                .map(Employee::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        Map<String, String> previousCompanyIds = upsertIds.isEmpty() ? new HashMap<>() : this.employeeRepository.findCompanyIdsByIds(upsertIds);
+
+        Map<Integer, String> errors = writes.isEmpty() ? new HashMap<>() : this.employeeRepository.bulkUpsert(writes);
+        Map<String, Integer> employeesNumberDeltas = new HashMap<>();
+
+        for (int writeIndex = 0; writeIndex < writes.size(); writeIndex++) {
+            int index = writeIndexes.get(writeIndex);
+            Employee employee = writes.get(writeIndex);
+            String id = employee.getId();
+
+            if (errors.containsKey(writeIndex)) {
+                results[index] = new EmployeeBulkItemResponse(offset + index, id, EmployeeBulkItemResponse.Status.FAILED, errors.get(writeIndex));
+                continue;
+            }
+
+            if (writeIsInsert.get(writeIndex)) {
+                results[index] = new EmployeeBulkItemResponse(offset + index, id, EmployeeBulkItemResponse.Status.CREATED, null);
+            } else {
+                results[index] = new EmployeeBulkItemResponse(offset + index, id, EmployeeBulkItemResponse.Status.UPSERTED, null);
+            }
+            this.companyEmployeesView.put(employee);
+
+            String previousCompanyId = previousCompanyIds.get(id);
+            if (!Objects.equals(previousCompanyId, employee.getCompanyId())) {
+                if (Strings.isNotEmpty(previousCompanyId)) {
+                    employeesNumberDeltas.merge(previousCompanyId, -1, Integer::sum);
+                }
+                if (Strings.isNotEmpty(employee.getCompanyId())) {
+                    employeesNumberDeltas.merge(employee.getCompanyId(), 1, Integer::sum);
+                }
+            }
+        }
+
+        if (!employeesNumberDeltas.isEmpty()) {
+            this.companyService.adjustEmployeesNumbers(employeesNumberDeltas);
+        }
+
+        return Arrays.asList(results);
+    }
+
+    private void moveBetweenCompanies(String fromCompanyId, String toCompanyId) {
+        if (Objects.equals(fromCompanyId, toCompanyId)) {
+            return;
+        }
+
+        if (Strings.isNotEmpty(fromCompanyId)) {
+            this.companyService.adjustEmployeesNumber(fromCompanyId, -1);
+        }
+        if (Strings.isNotEmpty(toCompanyId)) {
+            this.companyService.adjustEmployeesNumber(toCompanyId, 1);
+        }
+    }
+
+    static long replacedVersionOf(Employee previousEmployee) {
+        return (previousEmployee.getVersion() == null ? 0L : previousEmployee.getVersion()) + 1;
+    }
+
+    private static void checkRange(String field, Integer min, Integer max) {
+        if (min != null && max != null && min > max) {
+            throw new IllegalArgumentException("Min " + field + " must not be greater than max " + field + ".");
+        }
     }
 
     private void validateEntity(Employee employee) throws CompanyNotFoundException {
-        if(Strings.isNotEmpty(employee.getCompanyId()) && !this.companyRepository.existsById(employee.getCompanyId())) {
-            throw new CompanyNotFoundException();
+        if(Strings.isNotEmpty(employee.getCompanyId())) {
+            this.companyService.findCompanyById(employee.getCompanyId());
         }
     }
 }
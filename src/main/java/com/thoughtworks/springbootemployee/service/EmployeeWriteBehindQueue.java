@@ -0,0 +1,221 @@
+package com.thoughtworks.springbootemployee.service;
+
+import com.thoughtworks.springbootemployee.dto.EmployeeBulkItemResponse;
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.exception.CompanyNotFoundException;
+import com.thoughtworks.springbootemployee.exception.EmployeeWriteBehindRejectedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.logging.log4j.util.Strings;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class EmployeeWriteBehindQueue implements InitializingBean, DisposableBean {
+    public static final String PENDING_GAUGE = "employee.write-behind.pending";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeWriteBehindQueue.class);
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private CompanyService companyService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${employee.write-behind.capacity:10000}")
+    private int capacity;
+
+    @Value("${employee.write-behind.batch-size:500}")
+    private int batchSize;
+
+    @Value("${employee.write-behind.flush-interval:100}")
+    private long flushInterval;
+
+    @Value("${employee.write-behind.enqueue-timeout:50}")
+    private long enqueueTimeout;
+
+    @Value("${employee.write-behind.shutdown-timeout:30000}")
+    private long shutdownTimeout;
+
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final AtomicLong flushed = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    private final ReadWriteLock runningLock = new ReentrantReadWriteLock();
+
+    private BlockingQueue<Employee> queue;
+
+    private volatile Thread flusher;
+
+    private volatile boolean running;
+
+    @Override
+    public void afterPropertiesSet() {
+        this.queue = new ArrayBlockingQueue<>(this.capacity);
+        this.running = true;
+
+        Gauge.builder(PENDING_GAUGE, this, EmployeeWriteBehindQueue::getPending)
+                .register(this.meterRegistry);
+    }
+
+    public Employee enqueue(Employee employee) throws CompanyNotFoundException {
+        if (Strings.isNotEmpty(employee.getCompanyId())) {
+            this.companyService.findCompanyById(employee.getCompanyId());
+        }
+
+        employee.setId(new ObjectId().toHexString());
+
+        // stop() takes the write lock, so the flusher only starts its final drain
+        // once every accepted employee is in the queue
+        this.runningLock.readLock().lock();
+        try {
+            if (!this.running) {
+                throw new EmployeeWriteBehindRejectedException("Write-behind queue is shutting down.");
+            }
+            this.startFlusher();
+
+            this.pending.incrementAndGet();
+            if (!this.queue.offer(employee, this.enqueueTimeout, TimeUnit.MILLISECONDS)) {
+                this.pending.decrementAndGet();
+                throw new EmployeeWriteBehindRejectedException("Write-behind queue is full.");
+            }
+        } catch (InterruptedException exception) {
+            this.pending.decrementAndGet();
+            Thread.currentThread().interrupt();
+            throw new EmployeeWriteBehindRejectedException("Write-behind queue is full.");
+        } finally {
+            this.runningLock.readLock().unlock();
+        }
+
+        return employee;
+    }
+
+    public int getPending() {
+        return this.pending.get();
+    }
+
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    public long getFlushed() {
+        return this.flushed.get();
+    }
+
+    public long getFailed() {
+        return this.failed.get();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        this.stop();
+
+        Thread flusher = this.flusher;
+        if (flusher == null) {
+            return;
+        }
+
+        flusher.join(this.shutdownTimeout);
+
+        if (flusher.isAlive()) {
+            LOGGER.error("Write-behind queue did not drain within {} ms, {} employees were not written.", this.shutdownTimeout, this.getPending());
+        }
+    }
+
+    private void stop() {
+        this.runningLock.writeLock().lock();
+        try {
+            this.running = false;
+        } finally {
+            this.runningLock.writeLock().unlock();
+        }
+    }
+
+    private void startFlusher() {
+        if (this.flusher != null) {
+            return;
+        }
+
+        synchronized (this) {
+            if (this.flusher == null && this.running) {
+                Thread flusher = new Thread(this::flushUntilStopped, "employee-write-behind");
+                flusher.setDaemon(true);
+                flusher.start();
+                this.flusher = flusher;
+            }
+        }
+    }
+
+    private void flushUntilStopped() {
+        while (this.running) {
+            List<Employee> batch = new ArrayList<>(this.batchSize);
+
+            try {
+                Employee first = this.queue.poll(this.flushInterval, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                this.stop();
+                break;
+            }
+
+            this.queue.drainTo(batch, this.batchSize - 1);
+            this.flush(batch);
+        }
+
+        // the writes below would fail fast with the interrupt flag set, it is restored after the drain
+        boolean interrupted = Thread.interrupted();
+
+        List<Employee> batch = new ArrayList<>(this.batchSize);
+        while (this.queue.drainTo(batch, this.batchSize) > 0) {
+            this.flush(batch);
+            batch.clear();
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flush(List<Employee> batch) {
+        try {
+            for (EmployeeBulkItemResponse result : this.employeeService.insertAll(batch)) {
+                if (result.getStatus() == EmployeeBulkItemResponse.Status.FAILED) {
+                    this.failed.incrementAndGet();
+                    LOGGER.error("Write-behind insert of employee {} failed: {}", result.getId(), result.getMessage());
+                } else {
+                    this.flushed.incrementAndGet();
+                }
+            }
+        } catch (RuntimeException exception) {
+            this.failed.addAndGet(batch.size());
+            LOGGER.error("Write-behind flush of {} employees failed.", batch.size(), exception);
+        } finally {
+            this.pending.addAndGet(-batch.size());
+        }
+    }
+}
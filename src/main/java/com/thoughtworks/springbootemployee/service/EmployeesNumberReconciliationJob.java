@@ -0,0 +1,39 @@
+package com.thoughtworks.springbootemployee.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EmployeesNumberReconciliationJob {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmployeesNumberReconciliationJob.class);
+
+    @Autowired
+    private CompanyService companyService;
+
+    @Value("${company.employees-number.reconcile-on-startup:true}")
+    private boolean reconcileOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!this.reconcileOnStartup) {
+            return;
+        }
+
+        this.reconcile();
+    }
+
+    @Scheduled(cron = "${company.employees-number.reconciliation-cron:0 0 3 * * *}")
+    public void reconcile() {
+        int repaired = this.companyService.reconcileEmployeesNumbers();
+
+        if (repaired > 0) {
+            LOGGER.warn("Repaired drifted employeesNumber on {} companies.", repaired);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.thoughtworks.springbootemployee.service;
+
+import com.thoughtworks.springbootemployee.entity.Company;
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.exception.CompanyNotFoundException;
+import com.thoughtworks.springbootemployee.repository.ReactiveCompanyRepository;
+import com.thoughtworks.springbootemployee.repository.ReactiveEmployeeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@Profile("reactive")
+public class ReactiveCompanyService {
+    @Autowired
+    ReactiveCompanyRepository companyRepository;
+
+    @Autowired
+    ReactiveEmployeeRepository employeeRepository;
+
+    public Flux<Company> findAll() {
+        return this.companyRepository.findAll();
+    }
+
+    public Flux<Company> findAllWithPagination(Pageable pageable) {
+        return this.companyRepository.findAllBy(pageable);
+    }
+
+    public Flux<Company> findAllAfter(String lastId, int limit) {
+        if (limit < 1) {
+            return Flux.error(new IllegalArgumentException("Limit must not be less than one."));
+        }
+
+        return this.companyRepository.findAllAfter(lastId, limit);
+    }
+
+    public Mono<Company> findCompanyById(String id) {
+        return this.companyRepository.findById(id)
+                .switchIfEmpty(Mono.defer(() -> Mono.error(new CompanyNotFoundException())));
+    }
+
+    public Flux<Employee> findCompanyEmployeesById(String id) {
+        return this.companyRepository.existsById(id)
+                .flatMapMany(exists -> exists
+                        ? this.employeeRepository.findAllByCompanyId(id)
+                        : Flux.error(new CompanyNotFoundException()));
+    }
+
+    public Mono<Map<String, List<Employee>>> findEmployeesByCompanyIds(Collection<String> ids) {
+        if(ids.isEmpty()) {
+            return Mono.just(Collections.emptyMap());
+        }
+
+        return this.employeeRepository.findAllByCompanyIdIn(ids)
+                .collect(Collectors.groupingBy(Employee::getCompanyId));
+    }
+
+    public Mono<Company> add(Company company) {
+        return this.companyRepository.insert(company);
+    }
+
+    public Mono<Company> replace(String id, Company company) {
+        return this.companyRepository.findAndUpdateById(id, company)
+                .switchIfEmpty(Mono.defer(() -> Mono.error(new CompanyNotFoundException())));
+    }
+
+    public Mono<Company> adjustEmployeesNumber(String id, int delta) {
+        return this.companyRepository.incrementEmployeesNumber(id, delta);
+    }
+
+    public Mono<Void> delete(String id) {
+        return this.companyRepository.removeById(id)
+                .flatMap(removed -> removed ? Mono.<Void>empty() : Mono.error(new CompanyNotFoundException()));
+    }
+}
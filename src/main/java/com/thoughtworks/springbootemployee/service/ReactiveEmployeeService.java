@@ -0,0 +1,96 @@
+package com.thoughtworks.springbootemployee.service;
+
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.exception.CompanyNotFoundException;
+import com.thoughtworks.springbootemployee.exception.EmployeeNotFoundException;
+import com.thoughtworks.springbootemployee.repository.ReactiveEmployeeRepository;
+import org.apache.logging.log4j.util.Strings;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+@Service
+@Profile("reactive")
+public class ReactiveEmployeeService {
+    @Autowired
+    private ReactiveEmployeeRepository employeeRepository;
+
+    @Autowired
+    private ReactiveCompanyService companyService;
+
+    public Flux<Employee> findAll() {
+        return this.employeeRepository.findAll();
+    }
+
+    public Flux<Employee> findAllByGender(String gender) {
+        return this.employeeRepository.findAllByGender(gender);
+    }
+
+    public Flux<Employee> findAllWithPagination(Pageable pageable) {
+        return this.employeeRepository.findAllBy(pageable);
+    }
+
+    public Flux<Employee> findAllAfter(String lastId, int limit) {
+        if (limit < 1) {
+            return Flux.error(new IllegalArgumentException("Limit must not be less than one."));
+        }
+
+        return this.employeeRepository.findAllAfter(lastId, limit);
+    }
+
+    public Mono<Employee> findEmployeeById(String id) {
+        return this.employeeRepository.findById(id)
+                .switchIfEmpty(Mono.defer(() -> Mono.error(new EmployeeNotFoundException())));
+    }
+
+    public Mono<Employee> add(Employee employee) {
+        return this.validateEntity(employee)
+                .then(this.employeeRepository.insert(employee))
+                .flatMap(addedEmployee -> this.moveBetweenCompanies(null, addedEmployee.getCompanyId()).thenReturn(addedEmployee));
+    }
+
+    public Mono<Employee> replace(String id, Employee employee) {
+        employee.setId(id);
+
+        return this.validateEntity(employee)
+                .onErrorResume(CompanyNotFoundException.class, exception -> this.employeeRepository.existsById(id)
+                        .flatMap(exists -> Mono.<Void>error(exists ? exception : new EmployeeNotFoundException())))
+                .then(this.employeeRepository.findAndReplaceById(id, employee))
+                .switchIfEmpty(Mono.defer(() -> Mono.error(new EmployeeNotFoundException())))
+                .flatMap(previousEmployee -> {
+                    employee.setVersion(EmployeeService.replacedVersionOf(previousEmployee));
+                    return this.moveBetweenCompanies(previousEmployee.getCompanyId(), employee.getCompanyId());
+                })
+                .thenReturn(employee);
+    }
+
+    public Mono<Void> delete(String id) {
+        return this.employeeRepository.findAndRemoveById(id)
+                .switchIfEmpty(Mono.defer(() -> Mono.error(new EmployeeNotFoundException())))
+                .flatMap(removedEmployee -> this.moveBetweenCompanies(removedEmployee.getCompanyId(), null));
+    }
+
+    private Mono<Void> moveBetweenCompanies(String fromCompanyId, String toCompanyId) {
+        if (Objects.equals(fromCompanyId, toCompanyId)) {
+            return Mono.empty();
+        }
+
+        Mono<Void> leave = Strings.isNotEmpty(fromCompanyId) ? this.companyService.adjustEmployeesNumber(fromCompanyId, -1).then() : Mono.empty();
+        Mono<Void> join = Strings.isNotEmpty(toCompanyId) ? this.companyService.adjustEmployeesNumber(toCompanyId, 1).then() : Mono.empty();
+
+        return leave.then(join);
+    }
+
+    private Mono<Void> validateEntity(Employee employee) {
+        if(Strings.isNotEmpty(employee.getCompanyId())) {
+            return this.companyService.findCompanyById(employee.getCompanyId()).then();
+        }
+
+        return Mono.empty();
+    }
+}
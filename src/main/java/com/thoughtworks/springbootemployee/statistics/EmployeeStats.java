@@ -0,0 +1,43 @@
+package com.thoughtworks.springbootemployee.statistics;
+
+public class EmployeeStats {
+    private String group;
+    private long count;
+    private FieldStats salary;
+    private FieldStats age;
+
+    public EmployeeStats() {
+        this.salary = new FieldStats();
+        this.age = new FieldStats();
+    }
+
+    public EmployeeStats(String group, long count) {
+        this();
+        this.group = group;
+        this.count = count;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public FieldStats getSalary() {
+        return salary;
+    }
+
+    public void setSalary(FieldStats salary) {
+        this.salary = salary;
+    }
+
+    public FieldStats getAge() {
+        return age;
+    }
+
+    public void setAge(FieldStats age) {
+        this.age = age;
+    }
+}
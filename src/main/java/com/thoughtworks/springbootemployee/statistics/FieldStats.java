@@ -0,0 +1,58 @@
+package com.thoughtworks.springbootemployee.statistics;
+
+public class FieldStats {
+    private long count;
+    private long sum;
+    private Double average;
+    private Integer min;
+    private Integer max;
+    private Integer p50;
+    private Integer p90;
+    private Integer p99;
+
+    public FieldStats() {
+    }
+
+    public FieldStats(long count, long sum, Double average, Integer min, Integer max, Integer p50, Integer p90, Integer p99) {
+        this.count = count;
+        this.sum = sum;
+        this.average = average;
+        this.min = min;
+        this.max = max;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public Double getAverage() {
+        return average;
+    }
+
+    public Integer getMin() {
+        return min;
+    }
+
+    public Integer getMax() {
+        return max;
+    }
+
+    public Integer getP50() {
+        return p50;
+    }
+
+    public Integer getP90() {
+        return p90;
+    }
+
+    public Integer getP99() {
+        return p99;
+    }
+}
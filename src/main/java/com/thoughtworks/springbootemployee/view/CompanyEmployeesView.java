@@ -0,0 +1,278 @@
+package com.thoughtworks.springbootemployee.view;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.repository.EmployeeRepository;
+import com.thoughtworks.springbootemployee.repository.MongoTopology;
+import org.apache.logging.log4j.util.Strings;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.DefaultMessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Message;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Component
+public class CompanyEmployeesView implements DisposableBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompanyEmployeesView.class);
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MongoTopology mongoTopology;
+
+    @Value("${company.employees-view.enabled:false}")
+    private boolean enabled;
+
+    @Value("${company.employees-view.change-streams:true}")
+    private boolean changeStreams;
+
+    private final Object reloadLock = new Object();
+
+    private volatile Index index;
+
+    private List<Consumer<Index>> pendingWrites;
+
+    private MessageListenerContainer changeStreamContainer;
+
+    public boolean isLoaded() {
+        return this.index != null;
+    }
+
+    public List<Employee> findAllByCompanyId(String companyId, int limit) {
+        NavigableMap<String, EmployeeSummary> employees = this.index.employeesByCompanyId.get(companyId);
+
+        return employees == null ? Collections.emptyList() : employees.entrySet().stream()
+                .limit(limit)
+                .map(employee -> employee.getValue().toEmployee(employee.getKey(), companyId))
+                .collect(Collectors.toList());
+    }
+
+    public Map<String, List<Employee>> findAllByCompanyIdIn(Collection<String> companyIds, int limitPerCompany) {
+        Index current = this.index;
+        Map<String, List<Employee>> employeesByCompanyId = new HashMap<>();
+
+        for (String companyId : companyIds) {
+            NavigableMap<String, EmployeeSummary> employees = current.employeesByCompanyId.get(companyId);
+            if (employees != null && !employees.isEmpty()) {
+                employeesByCompanyId.put(companyId, employees.entrySet().stream()
+                        .limit(limitPerCompany)
+                        .map(employee -> employee.getValue().toEmployee(employee.getKey(), companyId))
+                        .collect(Collectors.toList()));
+            }
+        }
+
+        return employeesByCompanyId;
+    }
+
+    public void put(Employee employee) {
+        this.apply(index -> index.put(employee));
+    }
+
+    public void remove(String employeeId) {
+        this.apply(index -> index.remove(employeeId));
+    }
+
+    public void moveAll(String fromCompanyId, String toCompanyId) {
+        this.apply(index -> index.moveAll(fromCompanyId, toCompanyId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!this.enabled) {
+            return;
+        }
+
+        this.reload();
+
+        if (this.changeStreams && this.mongoTopology.isReplicaSet()) {
+            this.subscribeToChangeStream();
+        } else {
+            LOGGER.info("Company employees view is refreshed from write paths and periodic reloads only.");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${company.employees-view.reload-interval:300000}", initialDelayString = "${company.employees-view.reload-interval:300000}")
+    public void reload() {
+        if (!this.enabled) {
+            return;
+        }
+
+        synchronized (this.reloadLock) {
+            synchronized (this) {
+                this.pendingWrites = new ArrayList<>();
+            }
+
+            Index loaded = new Index();
+            try (CloseableIterator<Employee> employees = this.employeeRepository.streamAll()) {
+                employees.forEachRemaining(loaded::put);
+            } catch (RuntimeException exception) {
+                synchronized (this) {
+                    this.pendingWrites = null;
+                }
+                throw exception;
+            }
+
+            synchronized (this) {
+                this.pendingWrites.forEach(write -> write.accept(loaded));
+                this.pendingWrites = null;
+                this.index = loaded;
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (this.changeStreamContainer != null) {
+            this.changeStreamContainer.stop();
+        }
+    }
+
+    private synchronized void apply(Consumer<Index> write) {
+        if (this.index != null) {
+            write.accept(this.index);
+        }
+        if (this.pendingWrites != null) {
+            this.pendingWrites.add(write);
+        }
+    }
+
+    private void subscribeToChangeStream() {
+        ChangeStreamRequest<Employee> request = ChangeStreamRequest.builder(this::onChange)
+                .collection(this.mongoTemplate.getCollectionName(Employee.class))
+                .fullDocumentLookup(FullDocument.UPDATE_LOOKUP)
+                .build();
+
+        this.changeStreamContainer = new DefaultMessageListenerContainer(this.mongoTemplate);
+        this.changeStreamContainer.register(request, Employee.class, exception -> LOGGER.warn("Company employees view change stream failed.", exception));
+        this.changeStreamContainer.start();
+    }
+
+    private void onChange(Message<ChangeStreamDocument<Document>, Employee> message) {
+        ChangeStreamDocument<Document> change = message.getRaw();
+        if (change == null) {
+            return;
+        }
+
+        switch (change.getOperationType()) {
+            case INSERT:
+            case UPDATE:
+            case REPLACE:
+                if (message.getBody() != null) {
+                    this.put(message.getBody());
+                }
+                break;
+            case DELETE:
+                BsonValue id = change.getDocumentKey() == null ? null : change.getDocumentKey().get("_id");
+                if (id != null) {
+                    this.remove(id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue());
+                }
+                break;
+            default:
+                this.reload();
+        }
+    }
+
+    private static final class EmployeeSummary {
+        private final String name;
+        private final Integer age;
+        private final String gender;
+        private final Integer salary;
+
+        private EmployeeSummary(Employee employee) {
+            this.name = employee.getName();
+            this.age = employee.getAge();
+            this.gender = employee.getGender();
+            this.salary = employee.getSalary();
+        }
+
+        private Employee toEmployee(String id, String companyId) {
+            Employee employee = new Employee(this.name, this.age, this.gender, this.salary, companyId);
+            employee.setId(id);
+
+            return employee;
+        }
+    }
+
+    private static final class Index {
+        private final Map<String, NavigableMap<String, EmployeeSummary>> employeesByCompanyId = new ConcurrentHashMap<>();
+        private final Map<String, String> companyIdsByEmployeeId = new ConcurrentHashMap<>();
+
+        private void put(Employee employee) {
+            String companyId = Strings.isNotEmpty(employee.getCompanyId()) ? employee.getCompanyId() : null;
+            String previousCompanyId = companyId == null
+                    ? this.companyIdsByEmployeeId.remove(employee.getId())
+                    : this.companyIdsByEmployeeId.put(employee.getId(), companyId);
+
+            if (companyId != null) {
+                this.employeesByCompanyId.computeIfAbsent(companyId, id -> new ConcurrentSkipListMap<>())
+                        .put(employee.getId(), new EmployeeSummary(employee));
+            }
+            if (previousCompanyId != null && !previousCompanyId.equals(companyId)) {
+                this.removeFromCompany(previousCompanyId, employee.getId());
+            }
+        }
+
+        private void moveAll(String fromCompanyId, String toCompanyId) {
+            NavigableMap<String, EmployeeSummary> employees = this.employeesByCompanyId.remove(fromCompanyId);
+            if (employees == null) {
+                return;
+            }
+
+            if (toCompanyId == null) {
+                employees.keySet().forEach(this.companyIdsByEmployeeId::remove);
+                return;
+            }
+
+            NavigableMap<String, EmployeeSummary> moved = this.employeesByCompanyId.computeIfAbsent(toCompanyId, id -> new ConcurrentSkipListMap<>());
+            employees.forEach((employeeId, employee) -> {
+                this.companyIdsByEmployeeId.put(employeeId, toCompanyId);
+                moved.put(employeeId, employee);
+            });
+        }
+
+        private void remove(String employeeId) {
+            String companyId = this.companyIdsByEmployeeId.remove(employeeId);
+            if (companyId == null) {
+                return;
+            }
+
+            this.removeFromCompany(companyId, employeeId);
+        }
+
+        private void removeFromCompany(String companyId, String employeeId) {
+            NavigableMap<String, EmployeeSummary> employees = this.employeesByCompanyId.get(companyId);
+            if (employees != null) {
+                employees.remove(employeeId);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.thoughtworks.springbootemployee.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "admission.enabled=true",
+        "admission.bucket-capacity=40",
+        "admission.refill-per-second=0.01",
+        "admission.costs.[GET /employees]=20",
+        "admission.paged-cost=2",
+        "admission.max-concurrent.[GET /employees]=1",
+        "admission.trusted-proxies=10.0.0.254",
+        "admission.endpoint-bucket-capacity=500",
+        "admission.endpoint-refill-per-second=0.01",
+        "list.export-clients=exporter"
+})
+@AutoConfigureMockMvc
+public class AdmissionIntegrationTest {
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    void should_return_429_with_retry_after_when_get_all_given_address_out_of_tokens_and_rotating_client_ids() throws Exception {
+        //given
+        this.mockMvc.perform(get("/employees").with(remoteAddress("10.0.0.1")).header("X-Client-Id", "greedy-1"))
+                .andExpect(status().isOk());
+        this.mockMvc.perform(get("/employees").with(remoteAddress("10.0.0.1")).header("X-Client-Id", "greedy-2"))
+                .andExpect(status().isOk());
+
+        //when
+        //then
+        this.mockMvc.perform(get("/employees").with(remoteAddress("10.0.0.1")).header("X-Client-Id", "greedy-3"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.status").value("TOO_MANY_REQUESTS"));
+        this.mockMvc.perform(get("/employees").with(remoteAddress("10.0.0.2")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void should_rate_limit_clients_separately_when_get_all_given_client_header_from_trusted_proxy() throws Exception {
+        //given
+        this.mockMvc.perform(get("/employees").with(remoteAddress("10.0.0.254")).header("X-Client-Id", "greedy"))
+                .andExpect(status().isOk());
+        this.mockMvc.perform(get("/employees").with(remoteAddress("10.0.0.254")).header("X-Client-Id", "greedy"))
+                .andExpect(status().isOk());
+
+        //when
+        //then
+        this.mockMvc.perform(get("/employees").with(remoteAddress("10.0.0.254")).header("X-Client-Id", "greedy"))
+                .andExpect(status().isTooManyRequests());
+        this.mockMvc.perform(get("/employees").with(remoteAddress("10.0.0.254")).header("X-Client-Id", "polite"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void should_return_429_without_charging_client_when_get_companies_given_endpoint_out_of_tokens_across_addresses() throws Exception {
+        //given
+        for (int address = 0; address < 12; address++) {
+            for (int request = 0; request < 2; request++) {
+                this.mockMvc.perform(get("/companies").with(remoteAddress("10.0.1." + address)))
+                        .andExpect(status().isOk());
+            }
+        }
+        this.mockMvc.perform(get("/companies").with(remoteAddress("10.0.1.12")))
+                .andExpect(status().isOk());
+
+        //when
+        //then
+        this.mockMvc.perform(get("/companies").with(remoteAddress("10.0.1.12")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.message").value("Rate limit exceeded for GET /companies across all clients."));
+        this.mockMvc.perform(get("/companies").with(remoteAddress("10.0.1.12")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.message").value("Rate limit exceeded for GET /companies across all clients."));
+    }
+
+    @Test
+    void should_charge_paged_cost_when_get_all_with_pagination_given_client_with_tokens_for_one_unbounded_call() throws Exception {
+        //given
+        this.mockMvc.perform(get("/employees").with(remoteAddress("10.0.0.3")))
+                .andExpect(status().isOk());
+
+        //when
+        //then
+        for (int request = 0; request < 10; request++) {
+            this.mockMvc.perform(get("/employees").param("page", "1").param("pageSize", "5").with(remoteAddress("10.0.0.3")))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    @Test
+    void should_return_503_with_retry_after_when_get_all_given_endpoint_at_concurrency_cap() throws Exception {
+        //given
+        MvcResult inFlight = this.mockMvc.perform(get("/employees").param("stream", "true").principal(() -> "exporter"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //when
+        //then
+        this.mockMvc.perform(get("/employees").with(remoteAddress("10.0.0.5")))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+
+        this.mockMvc.perform(asyncDispatch(inFlight))
+                .andExpect(status().isOk());
+        this.mockMvc.perform(get("/employees").with(remoteAddress("10.0.0.5")))
+                .andExpect(status().isOk());
+    }
+
+    private static RequestPostProcessor remoteAddress(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
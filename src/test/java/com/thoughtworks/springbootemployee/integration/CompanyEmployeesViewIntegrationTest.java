@@ -0,0 +1,121 @@
+package com.thoughtworks.springbootemployee.integration;
+
+import com.thoughtworks.springbootemployee.entity.Company;
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.repository.CompanyRepository;
+import com.thoughtworks.springbootemployee.repository.EmployeeRepository;
+import com.thoughtworks.springbootemployee.view.CompanyEmployeesView;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "company.employees-view.enabled=true")
+@AutoConfigureMockMvc
+public class CompanyEmployeesViewIntegrationTest {
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private CompanyEmployeesView companyEmployeesView;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Company addedCompany;
+
+    @BeforeEach
+    void setUp() {
+        this.addedCompany = this.companyRepository.save(new Company("Company"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.employeeRepository.deleteAll();
+        this.companyRepository.deleteAll();
+        this.cacheManager.getCacheNames().forEach(cacheName -> this.cacheManager.getCache(cacheName).clear());
+        this.companyEmployeesView.reload();
+    }
+
+    @Test
+    void should_return_employees_from_view_when_get_company_employees_given_employee_written_outside_services_and_no_reload() throws Exception {
+        //given
+        this.employeeRepository.save(new Employee("Sam", 20, "Male", 20000, this.addedCompany.getId()));
+
+        //when
+        //then
+        this.mockMvc.perform(get("/companies/" + this.addedCompany.getId() + "/employees"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.*", hasSize(0)));
+
+        this.companyEmployeesView.reload();
+
+        this.mockMvc.perform(get("/companies/" + this.addedCompany.getId() + "/employees"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.*", hasSize(1)))
+                .andExpect(jsonPath("$[0].name").value("Sam"));
+    }
+
+    @Test
+    void should_move_employee_between_companies_in_view_when_replace_given_other_company_id() throws Exception {
+        //given
+        Company otherCompany = this.companyRepository.save(new Company("Other"));
+        Employee addedEmployee = this.employeeRepository.save(new Employee("Sam", 20, "Male", 20000, this.addedCompany.getId()));
+        this.companyEmployeesView.reload();
+
+        JSONObject requestBody = new JSONObject();
+        requestBody.put("name", "Sam");
+        requestBody.put("age", 20);
+        requestBody.put("gender", "Male");
+        requestBody.put("salary", 20000);
+        requestBody.put("companyId", otherCompany.getId());
+
+        //when
+        this.mockMvc.perform(put("/employees/" + addedEmployee.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody.toString())
+                ).andExpect(status().isOk());
+
+        //then
+        this.mockMvc.perform(get("/companies/" + this.addedCompany.getId() + "/employees"))
+                .andExpect(jsonPath("$.*", hasSize(0)));
+        this.mockMvc.perform(get("/companies/" + otherCompany.getId() + "/employees"))
+                .andExpect(jsonPath("$.*", hasSize(1)))
+                .andExpect(jsonPath("$[0].name").value("Sam"));
+    }
+
+    @Test
+    void should_drop_employee_from_view_when_delete_given_employee_in_company() throws Exception {
+        //given
+        Employee addedEmployee = this.employeeRepository.save(new Employee("Sam", 20, "Male", 20000, this.addedCompany.getId()));
+        this.companyEmployeesView.reload();
+
+        //when
+        this.mockMvc.perform(delete("/employees/" + addedEmployee.getId()))
+                .andExpect(status().isNoContent());
+
+        //then
+        this.mockMvc.perform(get("/companies/" + this.addedCompany.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employees", hasSize(0)));
+    }
+}
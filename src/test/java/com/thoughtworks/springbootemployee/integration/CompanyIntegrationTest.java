@@ -2,25 +2,37 @@ package com.thoughtworks.springbootemployee.integration;
 
 import com.thoughtworks.springbootemployee.entity.Company;
 import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.pagination.KeysetCursor;
+import com.thoughtworks.springbootemployee.repository.CascadePolicy;
 import com.thoughtworks.springbootemployee.repository.CompanyRepository;
 import com.thoughtworks.springbootemployee.repository.EmployeeRepository;
+import com.thoughtworks.springbootemployee.service.CompanyService;
+import com.thoughtworks.springbootemployee.service.EmployeesNumberReconciliationJob;
 import org.json.JSONObject;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
+import java.util.Optional;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -36,10 +48,20 @@ public class CompanyIntegrationTest {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private CompanyService companyService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EmployeesNumberReconciliationJob employeesNumberReconciliationJob;
+
     @AfterEach
     void tearDown() {
         this.companyRepository.deleteAll();
         this.employeeRepository.deleteAll();
+        this.cacheManager.getCacheNames().forEach(cacheName -> this.cacheManager.getCache(cacheName).clear());
     }
 
     @Test
@@ -58,6 +80,30 @@ public class CompanyIntegrationTest {
                 .andExpect(jsonPath("$[0].employees").isEmpty());
     }
 
+    @Test
+    void should_return_companies_with_their_own_employees_when_get_all_given_companies_with_employees() throws Exception {
+        //given
+        Company addedCompany1 = this.companyRepository.save(new Company("Company1"));
+        Company addedCompany2 = this.companyRepository.save(new Company("Company2"));
+
+        this.employeeRepository.save(new Employee("Sam", 20, "Male", 20000, addedCompany1.getId()));
+        this.employeeRepository.save(new Employee("Ken", 20, "Male", 20000, addedCompany1.getId()));
+        this.employeeRepository.save(new Employee("Anna", 20, "Female", 20000, addedCompany2.getId()));
+
+        //when
+        //then
+        this.mockMvc.perform(get("/companies"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.*", hasSize(2)))
+                .andExpect(jsonPath("$[0].companyName").value("Company1"))
+                .andExpect(jsonPath("$[0].employees", hasSize(2)))
+                .andExpect(jsonPath("$[0].employees[0].name").value("Sam"))
+                .andExpect(jsonPath("$[0].employees[1].name").value("Ken"))
+                .andExpect(jsonPath("$[1].companyName").value("Company2"))
+                .andExpect(jsonPath("$[1].employees", hasSize(1)))
+                .andExpect(jsonPath("$[1].employees[0].name").value("Anna"));
+    }
+
     @Test
     void should_return_last_two_companies_when_get_all_with_pagination_given_companies_4_and_page_2_and_page_size_2() throws Exception {
         //given
@@ -88,6 +134,35 @@ public class CompanyIntegrationTest {
                 .andExpect(jsonPath("$[1].employees").isEmpty());
     }
 
+    @Test
+    void should_return_companies_page_by_page_when_get_all_with_keyset_given_companies_3_and_limit_2() throws Exception {
+        //given
+        this.companyRepository.save(new Company("Company1"));
+        this.companyRepository.save(new Company("Company2"));
+        this.companyRepository.save(new Company("Company3"));
+
+        //when
+        //then
+        String nextCursor = this.mockMvc.perform(get("/companies")
+                        .param("limit", "2")
+                ).andExpect(status().isOk())
+                .andExpect(jsonPath("$.*", hasSize(2)))
+                .andExpect(jsonPath("$[0].companyName").value("Company1"))
+                .andExpect(jsonPath("$[1].companyName").value("Company2"))
+                .andExpect(header().exists(KeysetCursor.NEXT_CURSOR_HEADER))
+                .andReturn()
+                .getResponse()
+                .getHeader(KeysetCursor.NEXT_CURSOR_HEADER);
+
+        this.mockMvc.perform(get("/companies")
+                        .param("after", nextCursor)
+                        .param("limit", "2")
+                ).andExpect(status().isOk())
+                .andExpect(jsonPath("$.*", hasSize(1)))
+                .andExpect(jsonPath("$[0].companyName").value("Company3"))
+                .andExpect(header().doesNotExist(KeysetCursor.NEXT_CURSOR_HEADER));
+    }
+
     @Test
     void should_return_company_when_get_one_given_found_company_id() throws Exception {
         //given
@@ -103,6 +178,214 @@ public class CompanyIntegrationTest {
                 .andExpect(jsonPath("$.employees").isEmpty());
     }
 
+    @Test
+    void should_return_replaced_company_when_get_one_given_cached_company_replaced() throws Exception {
+        //given
+        Company addedCompany = this.companyRepository.save(new Company("Company"));
+
+        this.mockMvc.perform(get("/companies/" + addedCompany.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.companyName").value("Company"));
+        assertNotNull(this.cacheManager.getCache("companies").get(addedCompany.getId()));
+
+        JSONObject requestBody = new JSONObject();
+        requestBody.put("companyName", "Company1");
+
+        this.mockMvc.perform(put("/companies/" + addedCompany.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody.toString())
+        ).andExpect(status().isOk());
+
+        //when
+        //then
+        this.mockMvc.perform(get("/companies/" + addedCompany.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.companyName").value("Company1"));
+    }
+
+    @Test
+    void should_return_matching_companies_when_search_by_name_given_text() throws Exception {
+        //given
+        this.companyRepository.save(new Company("Oocl Logistics"));
+        this.companyRepository.save(new Company("Oocl"));
+        this.companyRepository.save(new Company("Thoughtworks"));
+
+        //when
+        //then
+        this.mockMvc.perform(get("/companies/search")
+                        .param("q", "oocl")
+                        .param("embed", "none")
+                ).andExpect(status().isOk())
+                .andExpect(jsonPath("$.*", hasSize(2)))
+                .andExpect(jsonPath("$[0].employees").doesNotExist());
+    }
+
+    @Test
+    void should_return_400_when_search_by_name_given_blank_text() throws Exception {
+        //when
+        //then
+        this.mockMvc.perform(get("/companies/search")
+                        .param("q", " ")
+                ).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void should_return_304_when_get_one_given_if_none_match_of_unchanged_company() throws Exception {
+        //given
+        Company addedCompany = this.companyRepository.save(new Company("Company"));
+
+        String etag = this.mockMvc.perform(get("/companies/" + addedCompany.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        //when
+        //then
+        this.mockMvc.perform(get("/companies/" + addedCompany.getId()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+    }
+
+    @Test
+    void should_return_new_etag_when_get_one_given_employee_of_company_changed() throws Exception {
+        //given
+        Company addedCompany = this.companyRepository.save(new Company("Company"));
+
+        String etag = this.mockMvc.perform(get("/companies/" + addedCompany.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        JSONObject requestBody = new JSONObject();
+        requestBody.put("name", "Sam");
+        requestBody.put("age", 20);
+        requestBody.put("gender", "Male");
+        requestBody.put("salary", 20000);
+        requestBody.put("companyId", addedCompany.getId());
+
+        this.mockMvc.perform(post("/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody.toString())
+        ).andExpect(status().isCreated());
+
+        //when
+        //then
+        this.mockMvc.perform(get("/companies/" + addedCompany.getId()).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employees", hasSize(1)));
+    }
+
+    @Test
+    void should_return_new_etag_when_get_one_given_employee_replaced_within_company() throws Exception {
+        //given
+        Company addedCompany = this.companyRepository.save(new Company("Company"));
+        Employee addedEmployee = this.employeeRepository.save(new Employee("Sam", 20, "Male", 20000, addedCompany.getId()));
+
+        String etag = this.mockMvc.perform(get("/companies/" + addedCompany.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        JSONObject requestBody = new JSONObject();
+        requestBody.put("name", "Ken");
+        requestBody.put("age", 20);
+        requestBody.put("gender", "Male");
+        requestBody.put("salary", 20000);
+        requestBody.put("companyId", addedCompany.getId());
+
+        this.mockMvc.perform(put("/employees/" + addedEmployee.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody.toString())
+        ).andExpect(status().isOk());
+
+        //when
+        //then
+        this.mockMvc.perform(get("/companies/" + addedCompany.getId()).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employees[0].name").value("Ken"));
+    }
+
+    @Test
+    void should_pair_etag_with_returned_body_when_get_one_given_company_changed_outside_cache() throws Exception {
+        //given
+        Company addedCompany = this.companyRepository.save(new Company("Company"));
+
+        String etag = this.mockMvc.perform(get("/companies/" + addedCompany.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        addedCompany.setCompanyName("Company1");
+        this.companyRepository.save(addedCompany);
+
+        //when
+        //then
+        this.mockMvc.perform(get("/companies/" + addedCompany.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(jsonPath("$.companyName").value("Company"));
+    }
+
+    @Test
+    void should_return_different_etags_when_get_one_given_different_fields() throws Exception {
+        //given
+        Company addedCompany = this.companyRepository.save(new Company("Company"));
+
+        String etag = this.mockMvc.perform(get("/companies/" + addedCompany.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        //when
+        //then
+        this.mockMvc.perform(get("/companies/" + addedCompany.getId())
+                .param("embed", "none")
+                .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employees").doesNotExist());
+    }
+
+    @Test
+    void should_return_304_until_company_replaced_when_get_all_with_pagination_given_if_none_match() throws Exception {
+        //given
+        Company addedCompany = this.companyRepository.save(new Company("Company"));
+
+        String etag = this.mockMvc.perform(get("/companies").param("page", "1").param("pageSize", "2"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        this.mockMvc.perform(get("/companies").param("page", "1").param("pageSize", "2").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        JSONObject requestBody = new JSONObject();
+        requestBody.put("companyName", "Company1");
+
+        this.mockMvc.perform(put("/companies/" + addedCompany.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody.toString())
+        ).andExpect(status().isOk());
+
+        //when
+        //then
+        this.mockMvc.perform(get("/companies").param("page", "1").param("pageSize", "2").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].companyName").value("Company1"));
+    }
+
+    @Test
+    void should_return_404_when_get_one_given_cached_company_deleted() throws Exception {
+        //given
+        Company addedCompany = this.companyRepository.save(new Company("Company"));
+
+        this.mockMvc.perform(get("/companies/" + addedCompany.getId()))
+                .andExpect(status().isOk());
+
+        this.mockMvc.perform(delete("/companies/" + addedCompany.getId()))
+                .andExpect(status().isNoContent());
+        assertNull(this.cacheManager.getCache("companies").get(addedCompany.getId()));
+
+        //when
+        //then
+        this.mockMvc.perform(get("/companies/" + addedCompany.getId()))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void should_return_404_when_get_one_given_not_found_company_id() throws Exception {
         //given
@@ -198,6 +481,92 @@ public class CompanyIntegrationTest {
         assertEquals(0, companies.size());
     }
 
+    @Test
+    void should_nullify_employees_company_id_when_delete_given_nullify_cascade() throws Exception {
+        //given
+        Company addedCompany = this.companyRepository.save(new Company("Company"));
+        Employee addedEmployee = this.employeeRepository.save(new Employee("Sam", 20, "Male", 20000, addedCompany.getId()));
+        this.employeeRepository.save(new Employee("Ken", 20, "Male", 20000, addedCompany.getId()));
+
+        //when
+        //then
+        this.mockMvc.perform(delete("/companies/" + addedCompany.getId()).param("cascade", "nullify"))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("X-Affected-Employees", "2"));
+
+        assertEquals(2, this.employeeRepository.findAll().size());
+        assertNull(this.employeeRepository.findById(addedEmployee.getId()).get().getCompanyId());
+    }
+
+    @Test
+    void should_delete_employees_when_delete_given_delete_cascade() throws Exception {
+        //given
+        Company addedCompany = this.companyRepository.save(new Company("Company"));
+        Company otherCompany = this.companyRepository.save(new Company("Other"));
+        this.employeeRepository.save(new Employee("Sam", 20, "Male", 20000, addedCompany.getId()));
+        this.employeeRepository.save(new Employee("Ken", 20, "Male", 20000, otherCompany.getId()));
+
+        //when
+        //then
+        this.mockMvc.perform(delete("/companies/" + addedCompany.getId()).param("cascade", "delete"))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("X-Affected-Employees", "1"));
+
+        assertEquals(1, this.employeeRepository.findAll().size());
+        assertEquals(otherCompany.getId(), this.employeeRepository.findAll().get(0).getCompanyId());
+    }
+
+    @Test
+    void should_move_employees_to_target_company_when_delete_given_reassign_cascade() throws Exception {
+        //given
+        Company addedCompany = this.companyRepository.save(new Company("Company"));
+        Company targetCompany = this.companyRepository.save(new Company("Target"));
+        this.employeeRepository.save(new Employee("Sam", 20, "Male", 20000, addedCompany.getId()));
+
+        //when
+        //then
+        this.mockMvc.perform(delete("/companies/" + addedCompany.getId())
+                        .param("cascade", "reassign")
+                        .param("reassignTo", targetCompany.getId())
+                ).andExpect(status().isNoContent())
+                .andExpect(header().string("X-Affected-Employees", "1"));
+
+        this.mockMvc.perform(get("/companies/" + targetCompany.getId()))
+                .andExpect(jsonPath("$.employeesNumber").value(1))
+                .andExpect(jsonPath("$.employees", hasSize(1)))
+                .andExpect(jsonPath("$.employees[0].name").value("Sam"));
+    }
+
+    @Test
+    void should_keep_company_and_employees_when_remove_by_id_cascading_given_reassign_target_deleted() {
+        //given
+        Company addedCompany = this.companyRepository.save(new Company("Company"));
+        Company targetCompany = this.companyRepository.save(new Company("Target"));
+        this.employeeRepository.save(new Employee("Sam", 20, "Male", 20000, addedCompany.getId()));
+        this.companyRepository.deleteById(targetCompany.getId());
+
+        //when
+        Optional<Long> affected = this.companyRepository.removeByIdCascading(addedCompany.getId(), CascadePolicy.REASSIGN, targetCompany.getId());
+
+        //then
+        assertFalse(affected.isPresent());
+        assertTrue(this.companyRepository.existsById(addedCompany.getId()));
+        assertEquals(addedCompany.getId(), this.employeeRepository.findAll().get(0).getCompanyId());
+    }
+
+    @Test
+    void should_return_400_when_delete_given_unsupported_cascade() throws Exception {
+        //given
+        Company addedCompany = this.companyRepository.save(new Company("Company"));
+
+        //when
+        //then
+        this.mockMvc.perform(delete("/companies/" + addedCompany.getId()).param("cascade", "orphan"))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(1, this.companyRepository.findAll().size());
+    }
+
     @Test
     void should_return_404_when_delete_given_found_id() throws Exception {
         //given
@@ -254,4 +623,145 @@ public class CompanyIntegrationTest {
         this.mockMvc.perform(get("/companies/" + addedCompany.getId() + "/employees"))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    void should_return_stats_of_own_employees_when_get_stats_given_found_id() throws Exception {
+        //given
+        Company addedCompany1 = this.companyRepository.save(new Company("Company1"));
+        Company addedCompany2 = this.companyRepository.save(new Company("Company2"));
+
+        this.employeeRepository.save(new Employee("Sam", 20, "Male", 10000, addedCompany1.getId()));
+        this.employeeRepository.save(new Employee("Ken", 40, "Male", 30000, addedCompany1.getId()));
+        this.employeeRepository.save(new Employee("Anna", 30, "Female", 90000, addedCompany2.getId()));
+
+        //when
+        //then
+        this.mockMvc.perform(get("/companies/" + addedCompany1.getId() + "/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(2))
+                .andExpect(jsonPath("$.salary.sum").value(40000))
+                .andExpect(jsonPath("$.salary.average").value(20000.0))
+                .andExpect(jsonPath("$.salary.min").value(10000))
+                .andExpect(jsonPath("$.salary.max").value(30000))
+                .andExpect(jsonPath("$.salary.p50").value(10000))
+                .andExpect(jsonPath("$.age.max").value(40));
+    }
+
+    @Test
+    void should_return_empty_stats_when_get_stats_given_found_id_without_employees() throws Exception {
+        //given
+        Company addedCompany = this.companyRepository.save(new Company("Company"));
+
+        //when
+        //then
+        this.mockMvc.perform(get("/companies/" + addedCompany.getId() + "/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(0))
+                .andExpect(jsonPath("$.salary.count").value(0));
+    }
+
+    @Test
+    void should_return_404_when_get_stats_given_not_found_id() throws Exception {
+        //when
+        //then
+        this.mockMvc.perform(get("/companies/5f8e7a0b9c1d2e3f4a5b6c7d/stats"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void should_repair_drifted_employees_numbers_when_reconcile_employees_numbers_given_employees_saved_directly() throws Exception {
+        //given
+        Company addedCompany1 = this.companyRepository.save(new Company("Company1"));
+        Company addedCompany2 = this.companyRepository.save(new Company("Company2"));
+
+        this.employeeRepository.save(new Employee("Sam", 20, "Male", 20000, addedCompany1.getId()));
+        this.employeeRepository.save(new Employee("Ken", 20, "Male", 20000, addedCompany1.getId()));
+
+        //when
+        int repaired = this.companyService.reconcileEmployeesNumbers();
+
+        //then
+        assertEquals(1, repaired);
+        this.mockMvc.perform(get("/companies/" + addedCompany1.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employeesNumber").value(2));
+        this.mockMvc.perform(get("/companies/" + addedCompany2.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employeesNumber").value(0));
+    }
+
+    @Test
+    void should_backfill_employees_numbers_when_application_ready_given_companies_created_before_the_counter() throws Exception {
+        //given
+        Company addedCompany = this.companyRepository.save(new Company("Company"));
+
+        this.employeeRepository.save(new Employee("Sam", 20, "Male", 20000, addedCompany.getId()));
+
+        //when
+        this.employeesNumberReconciliationJob.backfill();
+
+        //then
+        this.mockMvc.perform(get("/companies/" + addedCompany.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employeesNumber").value(1));
+    }
+
+    @Test
+    void should_return_companies_without_employees_when_get_all_given_companies_with_employees_and_embed_none() throws Exception {
+        //given
+        Company company = new Company("Company");
+        company.setEmployeesNumber(1);
+        Company addedCompany = this.companyRepository.save(company);
+
+        this.employeeRepository.save(new Employee("Sam", 20, "Male", 20000, addedCompany.getId()));
+
+        //when
+        //then
+        this.mockMvc.perform(get("/companies").param("embed", "none"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.*", hasSize(1)))
+                .andExpect(jsonPath("$[0].companyName").value("Company"))
+                .andExpect(jsonPath("$[0].employeesNumber").value(1))
+                .andExpect(jsonPath("$[0].employees").doesNotExist());
+    }
+
+    @Test
+    void should_return_only_selected_fields_when_get_one_given_found_company_id_and_fields() throws Exception {
+        //given
+        Company addedCompany = this.companyRepository.save(new Company("Company"));
+
+        this.employeeRepository.save(new Employee("Sam", 20, "Male", 20000, addedCompany.getId()));
+
+        //when
+        //then
+        this.mockMvc.perform(get("/companies/" + addedCompany.getId()).param("fields", "employees"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.companyName").doesNotExist())
+                .andExpect(jsonPath("$.employeesNumber").doesNotExist())
+                .andExpect(jsonPath("$.employees", hasSize(1)))
+                .andExpect(jsonPath("$.employees[0].name").value("Sam"))
+                .andExpect(jsonPath("$.employees[0].companyId").value(addedCompany.getId()));
+    }
+
+    @Test
+    void should_keep_null_properties_when_get_one_given_company_without_name() throws Exception {
+        //given
+        Company addedCompany = this.companyRepository.save(new Company(null));
+
+        //when
+        //then
+        this.mockMvc.perform(get("/companies/" + addedCompany.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.companyName").value(nullValue()))
+                .andExpect(jsonPath("$.employeesNumber").value(0))
+                .andExpect(jsonPath("$.employees").isEmpty());
+    }
+
+    @Test
+    void should_return_400_when_get_all_given_unsupported_embed() throws Exception {
+        //when
+        //then
+        this.mockMvc.perform(get("/companies").param("embed", "departments"))
+                .andExpect(status().isBadRequest());
+    }
 }
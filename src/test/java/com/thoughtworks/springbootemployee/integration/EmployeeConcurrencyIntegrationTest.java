@@ -0,0 +1,133 @@
+package com.thoughtworks.springbootemployee.integration;
+
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.exception.EmployeeNotFoundException;
+import com.thoughtworks.springbootemployee.repository.EmployeeRepository;
+import com.thoughtworks.springbootemployee.service.EmployeeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest
+public class EmployeeConcurrencyIntegrationTest {
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void setUp() {
+        this.executorService = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executorService.shutdownNow();
+        this.employeeRepository.deleteAll();
+    }
+
+    @Test
+    void should_delete_exactly_once_when_delete_races_given_same_id() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            //given
+            String id = this.employeeRepository.save(new Employee("Sam", 18, "Male", 20000, null)).getId();
+
+            List<Callable<Boolean>> deletes = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                deletes.add(this.delete(id));
+            }
+
+            //when
+            List<Boolean> results = this.race(deletes);
+
+            //then
+            assertEquals(1, results.stream().filter(Boolean::booleanValue).count());
+            assertFalse(this.employeeRepository.existsById(id));
+        }
+    }
+
+    @Test
+    void should_not_resurrect_deleted_employee_when_replace_races_with_delete_given_same_id() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            //given
+            String id = this.employeeRepository.save(new Employee("Sam", 18, "Male", 20000, null)).getId();
+
+            List<Callable<Boolean>> operations = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                operations.add(thread % 2 == 0 ? this.delete(id) : this.replace(id, "Ken" + thread));
+            }
+
+            //when
+            List<Boolean> results = this.race(operations);
+
+            //then
+            long succeededDeletes = 0;
+            for (int thread = 0; thread < THREADS; thread += 2) {
+                succeededDeletes += results.get(thread) ? 1 : 0;
+            }
+            assertEquals(1, succeededDeletes);
+            assertFalse(this.employeeRepository.existsById(id));
+        }
+    }
+
+    private Callable<Boolean> delete(String id) {
+        return () -> {
+            try {
+                this.employeeService.delete(id);
+                return true;
+            } catch (EmployeeNotFoundException exception) {
+                return false;
+            }
+        };
+    }
+
+    private Callable<Boolean> replace(String id, String name) {
+        return () -> {
+            try {
+                this.employeeService.replace(id, new Employee(name, 20, "Male", 30000, null));
+                return true;
+            } catch (EmployeeNotFoundException exception) {
+                return false;
+            }
+        };
+    }
+
+    private List<Boolean> race(List<Callable<Boolean>> operations) throws Exception {
+        CountDownLatch startLine = new CountDownLatch(1);
+
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (Callable<Boolean> operation : operations) {
+            futures.add(this.executorService.submit(() -> {
+                startLine.await();
+                return operation.call();
+            }));
+        }
+        startLine.countDown();
+
+        List<Boolean> results = new ArrayList<>();
+        for (Future<Boolean> future : futures) {
+            results.add(future.get());
+        }
+
+        return results;
+    }
+}
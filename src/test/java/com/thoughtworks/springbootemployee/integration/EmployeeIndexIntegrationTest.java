@@ -0,0 +1,157 @@
+package com.thoughtworks.springbootemployee.integration;
+
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.repository.EmployeeRepository;
+import com.thoughtworks.springbootemployee.repository.MongoIndexManager;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+public class EmployeeIndexIntegrationTest {
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private MongoIndexManager mongoIndexManager;
+
+    @BeforeEach
+    void setUp() {
+        this.employeeRepository.save(new Employee("Sam", 18, "Male", 20000, "1"));
+        this.employeeRepository.save(new Employee("Anna", 18, "Female", 20000, "2"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.employeeRepository.deleteAll();
+        this.mongoTemplate.indexOps(Employee.class).getIndexInfo().stream()
+                .filter(index -> index.getName().equals("age_salary"))
+                .forEach(index -> this.mongoTemplate.indexOps(Employee.class).dropIndex(index.getName()));
+    }
+
+    @Test
+    void should_report_index_without_accesses_as_unused_when_find_unused_indexes() {
+        //given
+        this.mongoTemplate.indexOps(Employee.class).ensureIndex(new Index()
+                .on("age", Sort.Direction.ASC)
+                .on("salary", Sort.Direction.ASC)
+                .named("age_salary"));
+        this.mongoTemplate.find(Query.query(Criteria.where("salary").is(20000)), Employee.class);
+
+        //when
+        List<String> unusedIndexes = this.mongoIndexManager.findUnusedIndexes(Employee.class);
+
+        //then
+        assertTrue(unusedIndexes.contains("age_salary"), unusedIndexes.toString());
+        assertFalse(unusedIndexes.contains("salary"), unusedIndexes.toString());
+        assertFalse(unusedIndexes.contains("_id_"), unusedIndexes.toString());
+    }
+
+    @Test
+    void should_use_index_scan_when_find_all_by_company_id() {
+        //when
+        String winningPlan = this.explain(new Document("companyId", "1"));
+
+        //then
+        assertTrue(winningPlan.contains("IXSCAN"), winningPlan);
+        assertFalse(winningPlan.contains("COLLSCAN"), winningPlan);
+    }
+
+    @Test
+    void should_use_company_id_and_id_index_without_sort_when_find_by_company_id_ordered_by_id() {
+        //when
+        String winningPlan = this.explain(new Document("companyId", "1"), new Document("_id", 1));
+
+        //then
+        assertTrue(winningPlan.contains("companyId_id"), winningPlan);
+        assertFalse(winningPlan.contains("\"SORT\""), winningPlan);
+    }
+
+    @Test
+    void should_use_compound_index_scan_when_find_by_company_id_and_gender() {
+        //given
+        for (int index = 0; index < 10; index++) {
+            this.employeeRepository.save(new Employee("Kate" + index, 20, "Female", 20000, "1"));
+        }
+
+        //when
+        String winningPlan = this.explain(new Document("companyId", "1").append("gender", "Male"));
+
+        //then
+        assertTrue(winningPlan.contains("companyId_gender"), winningPlan);
+        assertFalse(winningPlan.contains("COLLSCAN"), winningPlan);
+    }
+
+    @Test
+    void should_use_index_scan_when_find_by_name_prefix() {
+        //when
+        String winningPlan = this.explain(new Document("name", new Document("$regex", "^Sa")));
+
+        //then
+        assertTrue(winningPlan.contains("IXSCAN"), winningPlan);
+        assertFalse(winningPlan.contains("COLLSCAN"), winningPlan);
+    }
+
+    @Test
+    void should_use_text_index_when_find_by_name_words() {
+        //when
+        String winningPlan = this.explain(new Document("$text", new Document("$search", "Sam")));
+
+        //then
+        assertTrue(winningPlan.contains("TEXT"), winningPlan);
+        assertFalse(winningPlan.contains("COLLSCAN"), winningPlan);
+    }
+
+    @Test
+    void should_use_index_scan_when_find_by_age_range() {
+        //when
+        String winningPlan = this.explain(new Document("age", new Document("$gte", 18).append("$lte", 30)));
+
+        //then
+        assertTrue(winningPlan.contains("IXSCAN"), winningPlan);
+        assertFalse(winningPlan.contains("COLLSCAN"), winningPlan);
+    }
+
+    @Test
+    void should_use_salary_index_without_sort_when_find_salary_percentile() {
+        //when
+        String winningPlan = this.explain(new Document("salary", new Document("$ne", null)), new Document("salary", 1));
+
+        //then
+        assertTrue(winningPlan.contains("IXSCAN"), winningPlan);
+        assertFalse(winningPlan.contains("\"SORT\""), winningPlan);
+        assertFalse(winningPlan.contains("COLLSCAN"), winningPlan);
+    }
+
+    private String explain(Document filter) {
+        return this.explain(filter, null);
+    }
+
+    private String explain(Document filter, Document sort) {
+        Document find = new Document("find", this.mongoTemplate.getCollectionName(Employee.class))
+                .append("filter", filter);
+        if (sort != null) {
+            find.append("sort", sort);
+        }
+        Document explanation = this.mongoTemplate.getDb()
+                .runCommand(new Document("explain", find).append("verbosity", "queryPlanner"));
+
+        return explanation.get("queryPlanner", Document.class).get("winningPlan", Document.class).toJson();
+    }
+}
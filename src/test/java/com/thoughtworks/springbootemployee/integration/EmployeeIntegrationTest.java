@@ -2,8 +2,10 @@ package com.thoughtworks.springbootemployee.integration;
 
 import com.thoughtworks.springbootemployee.entity.Company;
 import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.pagination.KeysetCursor;
 import com.thoughtworks.springbootemployee.repository.CompanyRepository;
 import com.thoughtworks.springbootemployee.repository.EmployeeRepository;
+import org.json.JSONArray;
 import org.json.JSONObject;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,21 +13,27 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@SpringBootTest
+@SpringBootTest(properties = "list.export-clients=exporter")
 @AutoConfigureMockMvc
 public class EmployeeIntegrationTest {
     @Autowired
@@ -37,6 +45,9 @@ public class EmployeeIntegrationTest {
     @Autowired
     private CompanyRepository companyRepository;
 
+    @Autowired
+    private CacheManager cacheManager;
+
     private Company addedCompany;
 
     @BeforeEach
@@ -49,6 +60,7 @@ public class EmployeeIntegrationTest {
     void tearDown() {
        this.employeeRepository.deleteAll();
        this.companyRepository.deleteAll();
+       this.cacheManager.getCacheNames().forEach(cacheName -> this.cacheManager.getCache(cacheName).clear());
     }
 
     @Test
@@ -68,6 +80,67 @@ public class EmployeeIntegrationTest {
                 .andExpect(jsonPath("$[0].salary").value(20000));
     }
 
+    @Test
+    void should_return_only_selected_fields_when_get_all_given_employees_and_fields() throws Exception {
+        //given
+        this.employeeRepository.save(new Employee("Sam", 18, "Male", 20000, this.addedCompany.getId()));
+
+        //when
+        //then
+        this.mockMvc.perform(get("/employees").param("fields", "name,salary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.*", hasSize(1)))
+                .andExpect(jsonPath("$[0].name").value("Sam"))
+                .andExpect(jsonPath("$[0].salary").value(20000))
+                .andExpect(jsonPath("$[0].age").doesNotExist())
+                .andExpect(jsonPath("$[0].gender").doesNotExist());
+    }
+
+    @Test
+    void should_return_400_when_get_all_given_unsupported_field() throws Exception {
+        //when
+        //then
+        this.mockMvc.perform(get("/employees").param("fields", "companyId"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void should_stream_all_employees_as_ndjson_when_get_all_given_employees_and_accept_ndjson() throws Exception {
+        //given
+        this.employeeRepository.save(new Employee("Sam", 18, "Male", 20000, this.addedCompany.getId()));
+        this.employeeRepository.save(new Employee("Anna", 20, "Female", 30000, this.addedCompany.getId()));
+
+        //when
+        MvcResult mvcResult = this.mockMvc.perform(get("/employees").accept("application/x-ndjson").principal(() -> "exporter"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        this.mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string(
+                        "{\"name\":\"Sam\",\"age\":18,\"gender\":\"Male\",\"salary\":20000}\n" +
+                        "{\"name\":\"Anna\",\"age\":20,\"gender\":\"Female\",\"salary\":30000}\n"
+                ));
+    }
+
+    @Test
+    void should_stream_all_employees_as_ndjson_when_get_all_given_employees_and_stream_true() throws Exception {
+        //given
+        this.employeeRepository.save(new Employee("Sam", 18, "Male", 20000, this.addedCompany.getId()));
+
+        //when
+        MvcResult mvcResult = this.mockMvc.perform(get("/employees").param("stream", "true").principal(() -> "exporter"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        this.mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().string("{\"name\":\"Sam\",\"age\":18,\"gender\":\"Male\",\"salary\":20000}\n"));
+    }
+
     @Test
     void should_return_all_male_employees_when_get_all_by_gender_given_employees_and_required_gender_male() throws Exception {
         //given
@@ -128,6 +201,268 @@ public class EmployeeIntegrationTest {
                 .andExpect(jsonPath("$[1].salary").value(30000));
     }
 
+    @Test
+    void should_return_employees_page_by_page_when_get_all_with_keyset_given_employees_3_and_limit_2() throws Exception {
+        //given
+        this.employeeRepository.save(new Employee("Sam", 18, "Male", 20000, this.addedCompany.getId()));
+        this.employeeRepository.save(new Employee("Ken", 20, "Male", 30000, this.addedCompany.getId()));
+        this.employeeRepository.save(new Employee("Anna", 18, "Female", 20000, this.addedCompany.getId()));
+
+        //when
+        //then
+        String nextCursor = this.mockMvc.perform(get("/employees")
+                        .param("limit", "2")
+                ).andExpect(status().isOk())
+                .andExpect(jsonPath("$.*", hasSize(2)))
+                .andExpect(jsonPath("$[0].name").value("Sam"))
+                .andExpect(jsonPath("$[1].name").value("Ken"))
+                .andExpect(header().exists(KeysetCursor.NEXT_CURSOR_HEADER))
+                .andReturn()
+                .getResponse()
+                .getHeader(KeysetCursor.NEXT_CURSOR_HEADER);
+
+        this.mockMvc.perform(get("/employees")
+                        .param("after", nextCursor)
+                        .param("limit", "2")
+                ).andExpect(status().isOk())
+                .andExpect(jsonPath("$.*", hasSize(1)))
+                .andExpect(jsonPath("$[0].name").value("Anna"))
+                .andExpect(header().doesNotExist(KeysetCursor.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void should_return_400_when_get_all_with_keyset_given_invalid_cursor() throws Exception {
+        //when
+        //then
+        this.mockMvc.perform(get("/employees")
+                        .param("after", "not-a-cursor")
+                        .param("limit", "2")
+                ).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void should_return_matching_employees_sorted_when_search_given_combined_filters() throws Exception {
+        //given
+        this.employeeRepository.save(new Employee("Sam", 25, "Male", 30000, this.addedCompany.getId()));
+        this.employeeRepository.save(new Employee("Samuel", 30, "Male", 50000, this.addedCompany.getId()));
+        this.employeeRepository.save(new Employee("Sandy", 30, "Female", 40000, this.addedCompany.getId()));
+        this.employeeRepository.save(new Employee("Samson", 40, "Male", 90000, this.addedCompany.getId()));
+        this.employeeRepository.save(new Employee("Ken", 30, "Male", 40000, this.addedCompany.getId()));
+
+        //when
+        //then
+        this.mockMvc.perform(get("/employees/search")
+                        .param("gender", "Male")
+                        .param("companyId", this.addedCompany.getId())
+                        .param("name", "Sam")
+                        .param("minAge", "20")
+                        .param("maxAge", "35")
+                        .param("maxSalary", "60000")
+                        .param("sort", "salary,desc")
+                ).andExpect(status().isOk())
+                .andExpect(jsonPath("$.*", hasSize(2)))
+                .andExpect(jsonPath("$[0].name").value("Samuel"))
+                .andExpect(jsonPath("$[1].name").value("Sam"));
+    }
+
+    @Test
+    void should_return_employees_page_by_page_when_search_given_sort_by_age_and_limit_2() throws Exception {
+        //given
+        this.employeeRepository.save(new Employee("Sam", 30, "Male", 20000, this.addedCompany.getId()));
+        this.employeeRepository.save(new Employee("Ken", 20, "Male", 30000, this.addedCompany.getId()));
+        this.employeeRepository.save(new Employee("Anna", 30, "Female", 20000, this.addedCompany.getId()));
+
+        //when
+        //then
+        String nextCursor = this.mockMvc.perform(get("/employees/search")
+                        .param("sort", "age")
+                        .param("limit", "2")
+                        .param("fields", "name")
+                ).andExpect(status().isOk())
+                .andExpect(jsonPath("$.*", hasSize(2)))
+                .andExpect(jsonPath("$[0].name").value("Ken"))
+                .andExpect(jsonPath("$[0].age").doesNotExist())
+                .andExpect(jsonPath("$[1].name").value("Sam"))
+                .andExpect(header().exists(KeysetCursor.NEXT_CURSOR_HEADER))
+                .andReturn()
+                .getResponse()
+                .getHeader(KeysetCursor.NEXT_CURSOR_HEADER);
+
+        this.mockMvc.perform(get("/employees/search")
+                        .param("sort", "age")
+                        .param("limit", "2")
+                        .param("after", nextCursor)
+                ).andExpect(status().isOk())
+                .andExpect(jsonPath("$.*", hasSize(1)))
+                .andExpect(jsonPath("$[0].name").value("Anna"))
+                .andExpect(header().doesNotExist(KeysetCursor.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void should_return_every_employee_once_when_search_given_sort_by_age_with_null_ages_and_limit_2() throws Exception {
+        //given
+        this.employeeRepository.save(new Employee("Sam", null, "Male", 20000, this.addedCompany.getId()));
+        this.employeeRepository.save(new Employee("Ken", 20, "Male", 30000, this.addedCompany.getId()));
+        this.employeeRepository.save(new Employee("Anna", null, "Female", 20000, this.addedCompany.getId()));
+        this.employeeRepository.save(new Employee("Bob", 30, "Male", 20000, this.addedCompany.getId()));
+
+        //when
+        //then
+        String ascendingCursor = this.mockMvc.perform(get("/employees/search")
+                        .param("sort", "age")
+                        .param("limit", "2")
+                ).andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Sam"))
+                .andExpect(jsonPath("$[1].name").value("Anna"))
+                .andReturn()
+                .getResponse()
+                .getHeader(KeysetCursor.NEXT_CURSOR_HEADER);
+
+        this.mockMvc.perform(get("/employees/search")
+                        .param("sort", "age")
+                        .param("limit", "2")
+                        .param("after", ascendingCursor)
+                ).andExpect(status().isOk())
+                .andExpect(jsonPath("$.*", hasSize(2)))
+                .andExpect(jsonPath("$[0].name").value("Ken"))
+                .andExpect(jsonPath("$[1].name").value("Bob"));
+
+        String descendingCursor = this.mockMvc.perform(get("/employees/search")
+                        .param("sort", "age,desc")
+                        .param("limit", "2")
+                ).andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Bob"))
+                .andExpect(jsonPath("$[1].name").value("Ken"))
+                .andReturn()
+                .getResponse()
+                .getHeader(KeysetCursor.NEXT_CURSOR_HEADER);
+
+        String lastCursor = this.mockMvc.perform(get("/employees/search")
+                        .param("sort", "age,desc")
+                        .param("limit", "1")
+                        .param("after", descendingCursor)
+                ).andExpect(status().isOk())
+                .andExpect(jsonPath("$.*", hasSize(1)))
+                .andExpect(jsonPath("$[0].name").value("Sam"))
+                .andReturn()
+                .getResponse()
+                .getHeader(KeysetCursor.NEXT_CURSOR_HEADER);
+
+        this.mockMvc.perform(get("/employees/search")
+                        .param("sort", "age,desc")
+                        .param("limit", "2")
+                        .param("after", lastCursor)
+                ).andExpect(status().isOk())
+                .andExpect(jsonPath("$.*", hasSize(1)))
+                .andExpect(jsonPath("$[0].name").value("Anna"));
+    }
+
+    @Test
+    void should_return_second_page_when_search_given_page_2_and_page_size_1() throws Exception {
+        //given
+        this.employeeRepository.save(new Employee("Sam", 30, "Male", 20000, this.addedCompany.getId()));
+        this.employeeRepository.save(new Employee("Ken", 20, "Male", 30000, this.addedCompany.getId()));
+
+        //when
+        //then
+        this.mockMvc.perform(get("/employees/search")
+                        .param("sort", "name,asc")
+                        .param("page", "2")
+                        .param("pageSize", "1")
+                ).andExpect(status().isOk())
+                .andExpect(jsonPath("$.*", hasSize(1)))
+                .andExpect(jsonPath("$[0].name").value("Sam"));
+    }
+
+    @Test
+    void should_return_word_matches_before_prefix_matches_when_search_by_name_given_text() throws Exception {
+        //given
+        this.employeeRepository.save(new Employee("Samantha Lee", 20, "Female", 20000, this.addedCompany.getId()));
+        this.employeeRepository.save(new Employee("Ken Sam", 20, "Male", 20000, this.addedCompany.getId()));
+        this.employeeRepository.save(new Employee("Anna", 20, "Female", 20000, this.addedCompany.getId()));
+
+        //when
+        //then
+        this.mockMvc.perform(get("/employees/search")
+                        .param("q", "sam")
+                ).andExpect(status().isOk())
+                .andExpect(jsonPath("$.*", hasSize(2)))
+                .andExpect(jsonPath("$[0].name").value("Ken Sam"))
+                .andExpect(jsonPath("$[1].name").value("Samantha Lee"));
+    }
+
+    @Test
+    void should_return_at_most_limit_employees_when_search_by_name_given_limit() throws Exception {
+        //given
+        this.employeeRepository.save(new Employee("Sam", 20, "Male", 20000, this.addedCompany.getId()));
+        this.employeeRepository.save(new Employee("Samuel", 20, "Male", 20000, this.addedCompany.getId()));
+        this.employeeRepository.save(new Employee("Samson", 20, "Male", 20000, this.addedCompany.getId()));
+
+        //when
+        //then
+        this.mockMvc.perform(get("/employees/search")
+                        .param("q", "Sam")
+                        .param("limit", "2")
+                ).andExpect(status().isOk())
+                .andExpect(jsonPath("$.*", hasSize(2)))
+                .andExpect(jsonPath("$[0].name").value("Sam"));
+    }
+
+    @Test
+    void should_return_400_when_search_by_name_given_limit_over_max() throws Exception {
+        //when
+        //then
+        this.mockMvc.perform(get("/employees/search")
+                        .param("q", "Sam")
+                        .param("limit", "51")
+                ).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void should_return_400_when_search_given_unsupported_sort() throws Exception {
+        //when
+        //then
+        this.mockMvc.perform(get("/employees/search")
+                        .param("sort", "gender")
+                ).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void should_return_salary_and_age_stats_per_gender_when_get_stats_given_employees_and_group_by_gender() throws Exception {
+        //given
+        this.employeeRepository.save(new Employee("Sam", 20, "Male", 10000, this.addedCompany.getId()));
+        this.employeeRepository.save(new Employee("Ken", 30, "Male", 20000, this.addedCompany.getId()));
+        this.employeeRepository.save(new Employee("Tom", 40, "Male", 30000, this.addedCompany.getId()));
+        this.employeeRepository.save(new Employee("Anna", 25, "Female", 50000, this.addedCompany.getId()));
+
+        //when
+        //then
+        this.mockMvc.perform(get("/employees/stats").param("groupBy", "gender"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.*", hasSize(2)))
+                .andExpect(jsonPath("$[0].group").value("Female"))
+                .andExpect(jsonPath("$[0].count").value(1))
+                .andExpect(jsonPath("$[0].salary.p99").value(50000))
+                .andExpect(jsonPath("$[1].group").value("Male"))
+                .andExpect(jsonPath("$[1].count").value(3))
+                .andExpect(jsonPath("$[1].salary.sum").value(60000))
+                .andExpect(jsonPath("$[1].salary.average").value(20000.0))
+                .andExpect(jsonPath("$[1].salary.min").value(10000))
+                .andExpect(jsonPath("$[1].salary.max").value(30000))
+                .andExpect(jsonPath("$[1].salary.p50").value(20000))
+                .andExpect(jsonPath("$[1].salary.p99").value(30000))
+                .andExpect(jsonPath("$[1].age.average").value(30.0))
+                .andExpect(jsonPath("$[1].age.p50").value(30));
+    }
+
+    @Test
+    void should_return_400_when_get_stats_given_unsupported_group_by() throws Exception {
+        //when
+        //then
+        this.mockMvc.perform(get("/employees/stats").param("groupBy", "name"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void should_return_employee_when_get_one_given_found_employee_id() throws Exception {
         //given
@@ -144,6 +479,68 @@ public class EmployeeIntegrationTest {
                 .andExpect(jsonPath("$.salary").value(20000));
     }
 
+    @Test
+    void should_return_304_when_get_one_given_if_none_match_of_unchanged_employee() throws Exception {
+        //given
+        Employee addedEmployee = this.employeeRepository.save(new Employee("Sam", 18, "Male", 20000, this.addedCompany.getId()));
+
+        String etag = this.mockMvc.perform(get("/employees/" + addedEmployee.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        //when
+        //then
+        this.mockMvc.perform(get("/employees/" + addedEmployee.getId()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+    }
+
+    @Test
+    void should_return_replaced_employee_when_get_one_given_if_none_match_before_replace() throws Exception {
+        //given
+        Employee addedEmployee = this.employeeRepository.save(new Employee("Sam", 18, "Male", 20000, this.addedCompany.getId()));
+
+        String etag = this.mockMvc.perform(get("/employees/" + addedEmployee.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        JSONObject requestBody = new JSONObject();
+        requestBody.put("name", "Sam");
+        requestBody.put("age", 19);
+        requestBody.put("gender", "Male");
+        requestBody.put("salary", 20000);
+        requestBody.put("companyId", this.addedCompany.getId());
+
+        this.mockMvc.perform(put("/employees/" + addedEmployee.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody.toString())
+        ).andExpect(status().isOk());
+
+        //when
+        //then
+        this.mockMvc.perform(get("/employees/" + addedEmployee.getId()).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.age").value(19));
+    }
+
+    @Test
+    void should_return_404_when_get_one_given_cached_employee_deleted() throws Exception {
+        //given
+        Employee addedEmployee = this.employeeRepository.save(new Employee("Sam", 18, "Male", 20000, this.addedCompany.getId()));
+
+        this.mockMvc.perform(get("/employees/" + addedEmployee.getId()))
+                .andExpect(status().isOk());
+
+        this.mockMvc.perform(delete("/employees/" + addedEmployee.getId()))
+                .andExpect(status().isNoContent());
+
+        //when
+        //then
+        this.mockMvc.perform(get("/employees/" + addedEmployee.getId()))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void should_return_404_when_get_one_given_not_found_employee_id() throws Exception {
         //given
@@ -187,6 +584,47 @@ public class EmployeeIntegrationTest {
         assertEquals(this.addedCompany.getId(), employees.get(0).getCompanyId());
     }
 
+    @Test
+    void should_keep_company_employees_number_in_sync_when_add_move_and_delete_given_employee() throws Exception {
+        //given
+        Company otherCompany = this.companyRepository.save(new Company("OtherCompany"));
+
+        JSONObject requestBody = new JSONObject();
+        requestBody.put("name", "Sam");
+        requestBody.put("age", 18);
+        requestBody.put("gender", "Male");
+        requestBody.put("salary", 20000);
+        requestBody.put("companyId", this.addedCompany.getId());
+
+        //when
+        this.mockMvc.perform(post("/employees")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(requestBody.toString())
+                ).andExpect(status().isCreated());
+        String employeeId = this.employeeRepository.findAll().get(0).getId();
+
+        //then
+        assertEquals(1, this.companyRepository.findById(this.addedCompany.getId()).get().getEmployeesNumber());
+
+        //when
+        requestBody.put("companyId", otherCompany.getId());
+        this.mockMvc.perform(put("/employees/" + employeeId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(requestBody.toString())
+                ).andExpect(status().isOk());
+
+        //then
+        assertEquals(0, this.companyRepository.findById(this.addedCompany.getId()).get().getEmployeesNumber());
+        assertEquals(1, this.companyRepository.findById(otherCompany.getId()).get().getEmployeesNumber());
+
+        //when
+        this.mockMvc.perform(delete("/employees/" + employeeId))
+                .andExpect(status().isNoContent());
+
+        //then
+        assertEquals(0, this.companyRepository.findById(otherCompany.getId()).get().getEmployeesNumber());
+    }
+
     @Test
     void should_return_404_when_add_given_not_found_company_id_and_employee() throws Exception {
         //given
@@ -210,6 +648,81 @@ public class EmployeeIntegrationTest {
         assertEquals(0, employees.size());
     }
 
+    @Test
+    void should_return_item_results_when_bulk_add_given_json_array_of_employees() throws Exception {
+        //given
+        Employee existedEmployee = this.employeeRepository.save(new Employee("Ken", 20, "Male", 30000, this.addedCompany.getId()));
+
+        JSONArray requestBody = new JSONArray();
+        requestBody.put(new JSONObject()
+                .put("name", "Sam")
+                .put("age", 18)
+                .put("gender", "Male")
+                .put("salary", 20000)
+                .put("companyId", this.addedCompany.getId()));
+        requestBody.put(new JSONObject()
+                .put("name", "Anna")
+                .put("age", 18)
+                .put("gender", "Female")
+                .put("salary", 20000)
+                .put("companyId", "5f8e7a0b9c1d2e3f4a5b6c7d"));
+        requestBody.put(new JSONObject()
+                .put("id", existedEmployee.getId())
+                .put("name", "Kenny")
+                .put("age", 21)
+                .put("gender", "Male")
+                .put("salary", 40000)
+                .put("companyId", this.addedCompany.getId()));
+
+        //when
+        //then
+        this.mockMvc.perform(post("/employees/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody.toString())
+                ).andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.upserted").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.items[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.items[1].status").value("FAILED"))
+                .andExpect(jsonPath("$.items[1].message").value("Company not found."))
+                .andExpect(jsonPath("$.items[2].status").value("UPSERTED"))
+                .andExpect(jsonPath("$.items[2].id").value(existedEmployee.getId()));
+
+        List<Employee> employees = this.employeeRepository.findAll();
+        assertEquals(2, employees.size());
+        assertEquals("Kenny", this.employeeRepository.findById(existedEmployee.getId()).get().getName());
+    }
+
+    @Test
+    void should_return_item_results_when_bulk_add_given_ndjson_stream_of_employees() throws Exception {
+        //given
+        String requestBody = new JSONObject()
+                .put("name", "Sam")
+                .put("age", 18)
+                .put("gender", "Male")
+                .put("salary", 20000)
+                .put("companyId", this.addedCompany.getId()) + "\n" +
+                new JSONObject()
+                .put("name", "Anna")
+                .put("age", 18)
+                .put("gender", "Female")
+                .put("salary", 20000)
+                .put("companyId", this.addedCompany.getId()) + "\n";
+
+        //when
+        //then
+        this.mockMvc.perform(post("/employees/bulk")
+                        .contentType("application/x-ndjson")
+                        .content(requestBody)
+                ).andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.items", hasSize(2)));
+
+        List<Employee> employees = this.employeeRepository.findAll();
+        assertEquals(2, employees.size());
+    }
+
     @Test
     void should_return_replaced_employee_when_replace_given_found_id_and_employee() throws Exception {
         //given
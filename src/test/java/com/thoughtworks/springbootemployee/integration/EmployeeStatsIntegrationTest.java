@@ -0,0 +1,146 @@
+package com.thoughtworks.springbootemployee.integration;
+
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.repository.EmployeeRepository;
+import com.thoughtworks.springbootemployee.service.EmployeeService;
+import com.thoughtworks.springbootemployee.statistics.EmployeeStats;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest
+public class EmployeeStatsIntegrationTest {
+    private static final int LARGE_EMPLOYEE_COUNT = 2_000_000;
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @AfterEach
+    void tearDown() {
+        this.employeeRepository.deleteAll();
+    }
+
+    @Test
+    void should_return_nearest_rank_percentiles_per_gender_when_find_stats_given_employees_with_missing_salary() {
+        //given
+        List<Employee> employees = new ArrayList<>();
+        for (int index = 1; index <= 10; index++) {
+            employees.add(new Employee("Female" + index, 20 + index, "Female", index * 1000, null));
+        }
+        employees.add(new Employee("Sam", 40, "Male", 500, null));
+        employees.add(new Employee("Ken", 50, "Male", 700, null));
+        employees.add(new Employee("Tom", 60, "Male", null, null));
+        this.employeeRepository.saveAll(employees);
+
+        //when
+        List<EmployeeStats> stats = this.employeeService.findStats("gender");
+
+        //then
+        assertEquals(2, stats.size());
+
+        EmployeeStats female = stats.get(0);
+        assertEquals("Female", female.getGroup());
+        assertEquals(10, female.getCount());
+        assertEquals(10, female.getSalary().getCount());
+        assertEquals(55000, female.getSalary().getSum());
+        assertEquals(5500.0, female.getSalary().getAverage());
+        assertEquals(1000, female.getSalary().getMin());
+        assertEquals(10000, female.getSalary().getMax());
+        assertEquals(5000, female.getSalary().getP50());
+        assertEquals(9000, female.getSalary().getP90());
+        assertEquals(10000, female.getSalary().getP99());
+        assertEquals(25, female.getAge().getP50());
+        assertEquals(29, female.getAge().getP90());
+        assertEquals(30, female.getAge().getP99());
+
+        EmployeeStats male = stats.get(1);
+        assertEquals("Male", male.getGroup());
+        assertEquals(3, male.getCount());
+        assertEquals(2, male.getSalary().getCount());
+        assertEquals(600.0, male.getSalary().getAverage());
+        assertEquals(500, male.getSalary().getP50());
+        assertEquals(700, male.getSalary().getP90());
+        assertEquals(3, male.getAge().getCount());
+        assertEquals(50, male.getAge().getP50());
+        assertEquals(60, male.getAge().getP90());
+    }
+
+    @Test
+    void should_return_empty_field_stats_when_find_stats_given_group_without_salaries() {
+        //given
+        this.employeeRepository.save(new Employee("Tom", 60, "Male", null, null));
+
+        //when
+        List<EmployeeStats> stats = this.employeeService.findStats(null);
+
+        //then
+        assertEquals(1, stats.size());
+        assertNull(stats.get(0).getGroup());
+        assertEquals(1, stats.get(0).getCount());
+        assertEquals(0, stats.get(0).getSalary().getCount());
+        assertNull(stats.get(0).getSalary().getP50());
+        assertEquals(60, stats.get(0).getAge().getP99());
+    }
+
+    @Test
+    @Tag("slow")
+    void should_return_percentiles_when_find_stats_given_two_million_employees_in_one_group_over_push_limit() {
+        //given
+        for (int inserted = 0; inserted < LARGE_EMPLOYEE_COUNT; inserted += INSERT_BATCH_SIZE) {
+            List<Document> employees = new ArrayList<>(INSERT_BATCH_SIZE);
+            for (int index = inserted; index < inserted + INSERT_BATCH_SIZE; index++) {
+                employees.add(new Document("name", "Employee" + index)
+                        .append("age", 20 + index % 40)
+                        .append("gender", index % 2 == 0 ? "Female" : "Male")
+                        .append("salary", index));
+            }
+            this.mongoTemplate.getCollection(this.mongoTemplate.getCollectionName(Employee.class)).insertMany(employees);
+        }
+
+        //when
+        // two million salaries pushed into one array would be about 26 MB, over the 16 MB document limit
+        List<EmployeeStats> overall = this.employeeService.findStats(null);
+        List<EmployeeStats> stats = this.employeeService.findStats("gender");
+
+        //then
+        assertEquals(1, overall.size());
+        assertEquals(LARGE_EMPLOYEE_COUNT, overall.get(0).getSalary().getCount());
+        assertEquals(999_999, overall.get(0).getSalary().getP50());
+        assertEquals(1_799_999, overall.get(0).getSalary().getP90());
+        assertEquals(1_979_999, overall.get(0).getSalary().getP99());
+        assertEquals(59, overall.get(0).getAge().getP99());
+
+        assertEquals(2, stats.size());
+
+        EmployeeStats female = stats.get(0);
+        assertEquals("Female", female.getGroup());
+        assertEquals(LARGE_EMPLOYEE_COUNT / 2, female.getCount());
+        assertEquals(0, female.getSalary().getMin());
+        assertEquals(LARGE_EMPLOYEE_COUNT - 2, female.getSalary().getMax());
+        assertEquals(999_998, female.getSalary().getP50());
+        assertEquals(1_799_998, female.getSalary().getP90());
+        assertEquals(1_979_998, female.getSalary().getP99());
+        assertEquals(58, female.getAge().getP99());
+
+        EmployeeStats male = stats.get(1);
+        assertEquals("Male", male.getGroup());
+        assertEquals(999_999, male.getSalary().getP50());
+    }
+}
@@ -0,0 +1,95 @@
+package com.thoughtworks.springbootemployee.integration;
+
+import com.thoughtworks.springbootemployee.controller.EmployeeController;
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.repository.EmployeeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "list.export-clients=exporter")
+public class EmployeeStreamingIntegrationTest {
+    private static final int EMPLOYEE_COUNT = 1_000_000;
+    private static final int INSERT_BATCH_SIZE = 10_000;
+    private static final int HEAP_SAMPLE_INTERVAL = 100_000;
+    private static final long MAX_HEAP_GROWTH_BYTES = 32L * 1024 * 1024;
+
+    @Autowired
+    private EmployeeController employeeController;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @AfterEach
+    void tearDown() {
+        this.employeeRepository.deleteAll();
+    }
+
+    @Test
+    @Tag("slow")
+    void should_keep_heap_bounded_when_stream_all_given_one_million_employees() throws IOException {
+        //given
+        for (int inserted = 0; inserted < EMPLOYEE_COUNT; inserted += INSERT_BATCH_SIZE) {
+            List<Employee> employees = new ArrayList<>(INSERT_BATCH_SIZE);
+            for (int index = inserted; index < inserted + INSERT_BATCH_SIZE; index++) {
+                employees.add(new Employee("Employee" + index, 20 + index % 40, index % 2 == 0 ? "Male" : "Female", 10000 + index, null));
+            }
+            this.employeeRepository.insert(employees);
+        }
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setUserPrincipal(() -> "exporter");
+
+        HeapSamplingOutputStream outputStream = new HeapSamplingOutputStream(usedHeapAfterGc());
+
+        //when
+        this.employeeController.streamAll(request).getBody().writeTo(outputStream);
+
+        //then
+        assertEquals(EMPLOYEE_COUNT, outputStream.lines);
+        assertTrue(outputStream.maxHeapGrowth < MAX_HEAP_GROWTH_BYTES,
+                "heap grew by " + outputStream.maxHeapGrowth + " bytes while streaming");
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static class HeapSamplingOutputStream extends OutputStream {
+        private final long baselineHeap;
+        private long lines;
+        private long maxHeapGrowth;
+
+        HeapSamplingOutputStream(long baselineHeap) {
+            this.baselineHeap = baselineHeap;
+        }
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                this.lines++;
+                if (this.lines % HEAP_SAMPLE_INTERVAL == 0) {
+                    this.maxHeapGrowth = Math.max(this.maxHeapGrowth, usedHeapAfterGc() - this.baselineHeap);
+                }
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.thoughtworks.springbootemployee.integration;
+
+import com.thoughtworks.springbootemployee.entity.Company;
+import com.thoughtworks.springbootemployee.repository.CompanyRepository;
+import com.thoughtworks.springbootemployee.repository.EmployeeRepository;
+import com.thoughtworks.springbootemployee.service.EmployeeWriteBehindQueue;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class EmployeeWriteBehindIntegrationTest {
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeWriteBehindQueue employeeWriteBehindQueue;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Company addedCompany;
+
+    @BeforeEach
+    void setUp() {
+        this.addedCompany = this.companyRepository.save(new Company("Company"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.employeeRepository.deleteAll();
+        this.companyRepository.deleteAll();
+        this.cacheManager.getCacheNames().forEach(cacheName -> this.cacheManager.getCache(cacheName).clear());
+    }
+
+    @Test
+    void should_accept_and_flush_employee_when_add_async_given_existing_company() throws Exception {
+        //given
+        JSONObject requestBody = new JSONObject();
+        requestBody.put("name", "Sam");
+        requestBody.put("age", 20);
+        requestBody.put("gender", "Male");
+        requestBody.put("salary", 20000);
+        requestBody.put("companyId", this.addedCompany.getId());
+
+        //when
+        MvcResult result = this.mockMvc.perform(post("/employees/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody.toString())
+                ).andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").exists())
+                .andReturn();
+
+        //then
+        String id = new JSONObject(result.getResponse().getContentAsString()).getString("id");
+        assertEquals("/employees/" + id, result.getResponse().getHeader("Location"));
+
+        this.awaitFlushed();
+
+        this.mockMvc.perform(get("/employees/" + id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Sam"));
+        this.mockMvc.perform(get("/companies/" + this.addedCompany.getId()))
+                .andExpect(jsonPath("$.employeesNumber").value(1));
+    }
+
+    @Test
+    void should_return_404_when_add_async_given_not_found_company_id() throws Exception {
+        //given
+        JSONObject requestBody = new JSONObject();
+        requestBody.put("name", "Sam");
+        requestBody.put("age", 20);
+        requestBody.put("gender", "Male");
+        requestBody.put("salary", 20000);
+        requestBody.put("companyId", "5f8e7a0b9c1d2e3f4a5b6c7d");
+
+        //when
+        //then
+        this.mockMvc.perform(post("/employees/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody.toString())
+                ).andExpect(status().isNotFound());
+        assertTrue(this.employeeRepository.findAll().isEmpty());
+    }
+
+    @Test
+    void should_return_queue_status_when_get_async_status() throws Exception {
+        //when
+        //then
+        this.mockMvc.perform(get("/employees/async/status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pending").isNumber())
+                .andExpect(jsonPath("$.capacity").value(this.employeeWriteBehindQueue.getCapacity()))
+                .andExpect(jsonPath("$.flushed").isNumber())
+                .andExpect(jsonPath("$.failed").isNumber());
+    }
+
+    private void awaitFlushed() throws InterruptedException {
+        for (int attempt = 0; attempt < 100 && this.employeeWriteBehindQueue.getPending() > 0; attempt++) {
+            Thread.sleep(50);
+        }
+
+        assertEquals(0, this.employeeWriteBehindQueue.getPending());
+    }
+}
@@ -0,0 +1,96 @@
+package com.thoughtworks.springbootemployee.integration;
+
+import com.thoughtworks.springbootemployee.concurrency.FanOutExecutor;
+import com.thoughtworks.springbootemployee.entity.Company;
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.repository.CompanyRepository;
+import com.thoughtworks.springbootemployee.repository.EmployeeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.thoughtworks.springbootemployee.integration.MongoCommandResultMatchers.mongoCommands;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "fan-out.enabled=true",
+        "fan-out.partition-size=1",
+        "fan-out.virtual-threads=false",
+        "fan-out.max-concurrency=1"
+})
+@AutoConfigureMockMvc
+public class FanOutIntegrationTest {
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private FanOutExecutor fanOutExecutor;
+
+    @AfterEach
+    void tearDown() {
+        this.employeeRepository.deleteAll();
+        this.companyRepository.deleteAll();
+    }
+
+    @Test
+    void should_embed_employees_of_each_company_when_get_all_given_companies_fetched_in_parallel_partitions() throws Exception {
+        //given
+        Company company1 = this.companyRepository.save(new Company("Company1"));
+        Company company2 = this.companyRepository.save(new Company("Company2"));
+        this.employeeRepository.save(new Employee("Sam", 20, "Male", 20000, company1.getId()));
+        this.employeeRepository.save(new Employee("Ken", 20, "Male", 20000, company2.getId()));
+        this.employeeRepository.save(new Employee("Anna", 20, "Female", 20000, company2.getId()));
+
+        //when
+        //then
+        this.mockMvc.perform(get("/companies"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].employees", hasSize(1)))
+                .andExpect(jsonPath("$[0].employees[0].name").value("Sam"))
+                .andExpect(jsonPath("$[1].employees", hasSize(2)));
+    }
+
+    @Test
+    void should_count_mongo_commands_of_parallel_partitions_when_get_all_given_one_partition_per_company() throws Exception {
+        //given
+        for (int index = 0; index < 3; index++) {
+            Company company = this.companyRepository.save(new Company("Company" + index));
+            this.employeeRepository.save(new Employee("Sam", 20, "Male", 20000, company.getId()));
+        }
+
+        //when
+        //then
+        this.mockMvc.perform(get("/companies"))
+                .andExpect(status().isOk())
+                .andExpect(mongoCommands(equalTo(4)));
+    }
+
+    @Test
+    @Timeout(5)
+    void should_run_on_calling_thread_when_map_given_every_slot_taken() {
+        //when
+        List<List<String>> threadNames = this.fanOutExecutor.map(Arrays.asList("outer1", "outer2"), outer ->
+                this.fanOutExecutor.map(Arrays.asList("inner1", "inner2"), inner -> Thread.currentThread().getName()));
+
+        //then
+        assertEquals(Arrays.asList("fan-out-1", "fan-out-1"), threadNames.get(0));
+    }
+}
@@ -0,0 +1,193 @@
+package com.thoughtworks.springbootemployee.integration;
+
+import com.thoughtworks.springbootemployee.entity.Company;
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.pagination.KeysetCursor;
+import com.thoughtworks.springbootemployee.repository.CompanyRepository;
+import com.thoughtworks.springbootemployee.repository.EmployeeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "list.default-limit=2",
+        "list.max-page-size=5",
+        "list.embedded-limit=2",
+        "list.export-clients=exporter",
+        "admission.trusted-proxies=10.0.0.254"
+})
+@AutoConfigureMockMvc
+public class ListLimitsIntegrationTest {
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Company addedCompany;
+
+    @BeforeEach
+    void setUp() {
+        this.addedCompany = this.companyRepository.save(new Company("Company"));
+        this.employeeRepository.save(new Employee("Sam", 20, "Male", 20000, this.addedCompany.getId()));
+        this.employeeRepository.save(new Employee("Ken", 20, "Male", 20000, this.addedCompany.getId()));
+        this.employeeRepository.save(new Employee("Tom", 20, "Male", 20000, this.addedCompany.getId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.employeeRepository.deleteAll();
+        this.companyRepository.deleteAll();
+        this.cacheManager.getCacheNames().forEach(cacheName -> this.cacheManager.getCache(cacheName).clear());
+    }
+
+    @Test
+    void should_return_default_limit_with_next_cursor_when_get_all_given_more_employees_than_default_limit() throws Exception {
+        //when
+        MvcResult result = this.mockMvc.perform(get("/employees"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].name").value("Sam"))
+                .andExpect(header().string("X-Result-Limit", "2"))
+                .andExpect(header().string("X-Result-Truncated", "true"))
+                .andReturn();
+
+        //then
+        this.mockMvc.perform(get("/employees").param("limit", "2").param("after", result.getResponse().getHeader(KeysetCursor.NEXT_CURSOR_HEADER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name").value("Tom"));
+    }
+
+    @Test
+    void should_return_untruncated_headers_when_get_all_given_fewer_companies_than_default_limit() throws Exception {
+        //when
+        //then
+        this.mockMvc.perform(get("/companies"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(header().string("X-Result-Limit", "2"))
+                .andExpect(header().string("X-Result-Truncated", "false"))
+                .andExpect(header().doesNotExist(KeysetCursor.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void should_return_default_limit_when_get_all_by_gender_given_more_employees_than_default_limit() throws Exception {
+        //when
+        //then
+        this.mockMvc.perform(get("/employees").param("gender", "Male"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(header().string("X-Result-Truncated", "true"));
+    }
+
+    @Test
+    void should_return_default_limit_when_get_company_employees_given_more_employees_than_default_limit() throws Exception {
+        //when
+        //then
+        this.mockMvc.perform(get("/companies/" + this.addedCompany.getId() + "/employees"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(header().string("X-Result-Truncated", "true"));
+    }
+
+    @Test
+    void should_truncate_embedded_employees_when_get_companies_given_more_employees_than_embedded_limit() throws Exception {
+        //when
+        //then
+        this.mockMvc.perform(get("/companies/" + this.addedCompany.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employees", hasSize(2)))
+                .andExpect(jsonPath("$.employees[0].name").value("Sam"))
+                .andExpect(jsonPath("$.employeesTruncated").value(true))
+                .andExpect(header().string("X-Embedded-Truncated", "true"));
+        this.mockMvc.perform(get("/companies"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].employees", hasSize(2)))
+                .andExpect(header().string("X-Embedded-Truncated", "true"));
+        this.mockMvc.perform(get("/companies").param("embed", "none"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].employeesTruncated").doesNotExist())
+                .andExpect(header().string("X-Embedded-Truncated", "false"));
+    }
+
+    @Test
+    void should_embed_employees_of_later_company_when_get_companies_given_earlier_company_over_shared_limit() throws Exception {
+        //given
+        this.employeeRepository.save(new Employee("Anna", 20, "Female", 20000, this.addedCompany.getId()));
+        this.employeeRepository.save(new Employee("Lily", 20, "Female", 20000, this.addedCompany.getId()));
+        this.employeeRepository.save(new Employee("Mary", 20, "Female", 20000, this.addedCompany.getId()));
+        Company laterCompany = this.companyRepository.save(new Company("Later"));
+        this.employeeRepository.save(new Employee("Ben", 20, "Male", 20000, laterCompany.getId()));
+
+        //when
+        //then
+        this.mockMvc.perform(get("/companies"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].employees", hasSize(2)))
+                .andExpect(jsonPath("$[0].employeesTruncated").value(true))
+                .andExpect(jsonPath("$[1].employees", hasSize(1)))
+                .andExpect(jsonPath("$[1].employees[0].name").value("Ben"))
+                .andExpect(jsonPath("$[1].employeesTruncated").doesNotExist());
+    }
+
+    @Test
+    void should_return_400_when_get_all_given_page_size_or_limit_over_max_page_size() throws Exception {
+        //when
+        //then
+        this.mockMvc.perform(get("/employees").param("page", "1").param("pageSize", "6"))
+                .andExpect(status().isBadRequest());
+        this.mockMvc.perform(get("/companies").param("limit", "6"))
+                .andExpect(status().isBadRequest());
+        this.mockMvc.perform(get("/employees/search").param("limit", "6"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void should_stream_only_to_export_clients_when_stream_all_given_export_clients() throws Exception {
+        //when
+        //then
+        this.mockMvc.perform(get("/employees").param("stream", "true"))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.status").value("FORBIDDEN"));
+        this.mockMvc.perform(get("/employees").param("stream", "true").header("X-Client-Id", "exporter"))
+                .andExpect(status().isForbidden());
+        this.mockMvc.perform(get("/employees").param("stream", "true").principal(() -> "browser"))
+                .andExpect(status().isForbidden());
+
+        MvcResult authenticated = this.mockMvc.perform(get("/employees").param("stream", "true").principal(() -> "exporter"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        this.mockMvc.perform(asyncDispatch(authenticated))
+                .andExpect(status().isOk());
+
+        MvcResult proxied = this.mockMvc.perform(get("/employees").param("stream", "true").header("X-Client-Id", "exporter").with(request -> {
+                    request.setRemoteAddr("10.0.0.254");
+                    return request;
+                }))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        this.mockMvc.perform(asyncDispatch(proxied))
+                .andExpect(status().isOk());
+    }
+}
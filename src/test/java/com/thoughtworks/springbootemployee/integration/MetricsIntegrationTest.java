@@ -0,0 +1,138 @@
+package com.thoughtworks.springbootemployee.integration;
+
+import com.thoughtworks.springbootemployee.entity.Company;
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.metrics.LayerTimingAspect;
+import com.thoughtworks.springbootemployee.metrics.MongoCommandMetrics;
+import com.thoughtworks.springbootemployee.metrics.MongoCommandsPerRequestFilter;
+import com.thoughtworks.springbootemployee.repository.CompanyRepository;
+import com.thoughtworks.springbootemployee.repository.EmployeeRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class MetricsIntegrationTest {
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @AfterEach
+    void tearDown() {
+        this.companyRepository.deleteAll();
+        this.employeeRepository.deleteAll();
+        this.cacheManager.getCacheNames().forEach(cacheName -> this.cacheManager.getCache(cacheName).clear());
+    }
+
+    @Test
+    void should_record_mongo_commands_of_request_when_get_all_given_companies_with_employees() throws Exception {
+        //given
+        Company addedCompany1 = this.companyRepository.save(new Company("Company1"));
+        Company addedCompany2 = this.companyRepository.save(new Company("Company2"));
+        this.employeeRepository.save(new Employee("Sam", 20, "Male", 20000, addedCompany1.getId()));
+        this.employeeRepository.save(new Employee("Ken", 20, "Male", 20000, addedCompany2.getId()));
+
+        long requestsBefore = this.commandsPerRequest("/companies").count();
+        double commandsBefore = this.commandsPerRequest("/companies").totalAmount();
+
+        //when
+        this.mockMvc.perform(get("/companies"))
+                .andExpect(status().isOk());
+
+        //then
+        DistributionSummary commandsPerRequest = this.commandsPerRequest("/companies");
+        assertEquals(requestsBefore + 1, commandsPerRequest.count());
+        assertEquals(2, commandsPerRequest.totalAmount() - commandsBefore);
+    }
+
+    @Test
+    void should_record_mongo_commands_of_streamed_body_when_stream_all_given_employees() throws Exception {
+        //given
+        this.employeeRepository.save(new Employee("Sam", 20, "Male", 20000, null));
+
+        long requestsBefore = this.commandsPerRequest("/employees").count();
+        double commandsBefore = this.commandsPerRequest("/employees").totalAmount();
+
+        //when
+        MvcResult result = this.mockMvc.perform(get("/employees").param("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        this.mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        //then
+        DistributionSummary commandsPerRequest = this.commandsPerRequest("/employees");
+        assertEquals(requestsBefore + 1, commandsPerRequest.count());
+        assertEquals(1, commandsPerRequest.totalAmount() - commandsBefore);
+    }
+
+    @Test
+    void should_time_every_layer_when_get_all_given_companies() throws Exception {
+        //given
+        this.companyRepository.save(new Company("Company"));
+
+        //when
+        this.mockMvc.perform(get("/companies"))
+                .andExpect(status().isOk());
+
+        //then
+        assertNotNull(this.meterRegistry.find(LayerTimingAspect.METHOD_TIMER)
+                .tags("layer", "controller", "class", "CompanyController", "method", "getAll").timer());
+        assertNotNull(this.meterRegistry.find(LayerTimingAspect.METHOD_TIMER)
+                .tags("layer", "service", "class", "CompanyService", "method", "findAll").timer());
+        assertNotNull(this.meterRegistry.find(LayerTimingAspect.METHOD_TIMER)
+                .tags("layer", "mapper", "class", "CompanyMapper", "method", "toResponse").timer());
+        assertNotNull(this.meterRegistry.find(LayerTimingAspect.METHOD_TIMER)
+                .tags("layer", "repository", "class", "CompanyRepository", "method", "findAll").timer());
+        assertTrue(this.meterRegistry.find(MongoCommandMetrics.COMMANDS_TIMER)
+                .tags("command", "find", "collection", "company", "status", "SUCCESS").timer().count() > 0);
+    }
+
+    @Test
+    void should_expose_metrics_when_get_prometheus_given_served_requests() throws Exception {
+        //given
+        this.mockMvc.perform(get("/companies"))
+                .andExpect(status().isOk());
+
+        //when
+        //then
+        this.mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_mongo_commands")))
+                .andExpect(content().string(containsString("application_method_seconds")))
+                .andExpect(content().string(containsString("mongodb_driver_commands_seconds")));
+    }
+
+    private DistributionSummary commandsPerRequest(String uri) {
+        return this.meterRegistry.summary(MongoCommandsPerRequestFilter.COMMANDS_SUMMARY, "method", "GET", "uri", uri);
+    }
+}
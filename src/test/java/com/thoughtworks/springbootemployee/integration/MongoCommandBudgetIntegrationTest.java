@@ -0,0 +1,92 @@
+package com.thoughtworks.springbootemployee.integration;
+
+import com.thoughtworks.springbootemployee.entity.Company;
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.metrics.MongoCommandsPerRequestFilter;
+import com.thoughtworks.springbootemployee.repository.CompanyRepository;
+import com.thoughtworks.springbootemployee.repository.EmployeeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.thoughtworks.springbootemployee.integration.MongoCommandResultMatchers.mongoCommands;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "mongo.command-budget.limits.[GET /companies/search]=0")
+@AutoConfigureMockMvc
+public class MongoCommandBudgetIntegrationTest {
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private Company addedCompany;
+
+    private Employee sam;
+
+    @BeforeEach
+    void setUp() {
+        this.addedCompany = this.companyRepository.save(new Company("Company"));
+        this.sam = this.employeeRepository.save(new Employee("Sam", 20, "Male", 20000, this.addedCompany.getId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.companyRepository.deleteAll();
+        this.employeeRepository.deleteAll();
+    }
+
+    @Test
+    void should_stay_within_mongo_command_budget_when_get_companies_given_company_with_employees() throws Exception {
+        //when
+        //then
+        this.mockMvc.perform(get("/companies"))
+                .andExpect(status().isOk())
+                .andExpect(mongoCommands(lessThanOrEqualTo(3)));
+        this.mockMvc.perform(get("/companies/" + this.addedCompany.getId()))
+                .andExpect(status().isOk())
+                .andExpect(mongoCommands(lessThanOrEqualTo(3)));
+        this.mockMvc.perform(get("/companies/" + this.addedCompany.getId() + "/stats"))
+                .andExpect(status().isOk())
+                .andExpect(mongoCommands(lessThanOrEqualTo(8)));
+    }
+
+    @Test
+    void should_stay_within_mongo_command_budget_when_get_employees_given_employees() throws Exception {
+        //when
+        //then
+        this.mockMvc.perform(get("/employees"))
+                .andExpect(status().isOk())
+                .andExpect(mongoCommands(lessThanOrEqualTo(2)));
+        this.mockMvc.perform(get("/employees/" + this.sam.getId()))
+                .andExpect(status().isOk())
+                .andExpect(mongoCommands(lessThanOrEqualTo(2)));
+    }
+
+    @Test
+    void should_count_exceeded_budget_and_keep_response_when_search_given_request_over_mongo_command_budget() throws Exception {
+        //given
+        double exceededBefore = this.meterRegistry.counter(MongoCommandsPerRequestFilter.BUDGET_EXCEEDED_COUNTER, "method", "GET", "uri", "/companies/search").count();
+
+        //when
+        //then
+        this.mockMvc.perform(get("/companies/search").param("q", "Company"))
+                .andExpect(status().isOk());
+        assertEquals(exceededBefore + 1, this.meterRegistry.counter(MongoCommandsPerRequestFilter.BUDGET_EXCEEDED_COUNTER, "method", "GET", "uri", "/companies/search").count());
+    }
+}
@@ -0,0 +1,26 @@
+package com.thoughtworks.springbootemployee.integration;
+
+import com.thoughtworks.springbootemployee.metrics.MongoCommandsPerRequestFilter;
+import org.hamcrest.Matcher;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+public final class MongoCommandResultMatchers {
+    private MongoCommandResultMatchers() {
+    }
+
+    public static ResultMatcher mongoCommands(Matcher<Integer> matcher) {
+        return result -> {
+            MockHttpServletRequest request = result.getRequest();
+            AtomicInteger commands = (AtomicInteger) request.getAttribute(MongoCommandsPerRequestFilter.COMMANDS_ATTRIBUTE);
+
+            assertNotNull(commands, "Mongo commands were not counted for " + request.getRequestURI());
+            assertThat("Mongo commands issued by " + request.getMethod() + " " + request.getRequestURI(), commands.get(), matcher);
+        };
+    }
+}
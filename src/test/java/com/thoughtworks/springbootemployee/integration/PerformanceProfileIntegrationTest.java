@@ -0,0 +1,75 @@
+package com.thoughtworks.springbootemployee.integration;
+
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.thoughtworks.springbootemployee.dto.CompanyResponse;
+import com.thoughtworks.springbootemployee.dto.EmployeeResponse;
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.serialization.ResponseWriters;
+import com.thoughtworks.springbootemployee.serialization.ResponseWritersHttpMessageConverter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("performance")
+public class PerformanceProfileIntegrationTest {
+    @Autowired
+    private MappingJackson2HttpMessageConverter converter;
+
+    @Autowired
+    private ResponseWriters responseWriters;
+
+    @Autowired
+    private ServerProperties serverProperties;
+
+    @Test
+    void should_register_afterburner_and_enable_compression_when_start_given_performance_profile() throws Exception {
+        //given
+        EmployeeResponse employeeResponse = new EmployeeResponse();
+        employeeResponse.setName("Sam");
+        employeeResponse.setAge(20);
+
+        //when
+        String json = this.responseWriters.getEmployeeWriter().writeValueAsString(employeeResponse);
+
+        //then
+        assertTrue(this.converter.getObjectMapper().getRegisteredModuleIds().contains(new AfterburnerModule().getTypeId()));
+        assertTrue(this.serverProperties.getCompression().getEnabled());
+        assertEquals("{\"name\":\"Sam\",\"age\":20,\"gender\":null,\"salary\":null}", json);
+    }
+
+    @Test
+    void should_write_company_list_with_prebuilt_writer_when_convert_given_performance_profile() throws Exception {
+        //given
+        Type companiesType = new ParameterizedTypeReference<List<CompanyResponse>>() {
+        }.getType();
+        CompanyResponse companyResponse = new CompanyResponse();
+        companyResponse.setCompanyName("Company");
+        companyResponse.setEmployeesNumber(1);
+        companyResponse.setEmployees(Collections.singletonList(new Employee("Sam", 20, "Male", 20000, "1")));
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+        //when
+        this.converter.write(Collections.singletonList(companyResponse), companiesType, MediaType.APPLICATION_JSON, outputMessage);
+
+        //then
+        assertTrue(this.converter instanceof ResponseWritersHttpMessageConverter);
+        assertNotNull(this.responseWriters.writerFor(companiesType));
+        assertNotNull(this.responseWriters.writerFor(CompanyResponse.class));
+        assertEquals("[{\"companyName\":\"Company\",\"employeesNumber\":1,\"employees\":[{\"id\":null,\"name\":\"Sam\",\"age\":20,\"gender\":\"Male\",\"salary\":20000,\"companyId\":\"1\",\"version\":null}]}]", outputMessage.getBodyAsString());
+    }
+}
@@ -0,0 +1,209 @@
+package com.thoughtworks.springbootemployee.integration;
+
+import com.thoughtworks.springbootemployee.controller.EmployeeController;
+import com.thoughtworks.springbootemployee.entity.Company;
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.pagination.KeysetCursor;
+import com.thoughtworks.springbootemployee.repository.CompanyRepository;
+import com.thoughtworks.springbootemployee.repository.EmployeeRepository;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@ActiveProfiles("reactive")
+@AutoConfigureWebTestClient
+public class ReactiveIntegrationTest {
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private Company addedCompany;
+
+    private Employee sam;
+
+    @BeforeEach
+    void setUp() {
+        this.addedCompany = this.companyRepository.save(new Company("Company"));
+        this.sam = this.employeeRepository.save(new Employee("Sam", 20, "Male", 20000, this.addedCompany.getId()));
+        this.employeeRepository.save(new Employee("Anna", 22, "Female", 30000, this.addedCompany.getId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.employeeRepository.deleteAll();
+        this.companyRepository.deleteAll();
+    }
+
+    @Test
+    void should_return_employees_when_get_employee_list_endpoints() {
+        //when
+        //then
+        this.webTestClient.get().uri("/employees").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.length()").isEqualTo(2);
+        this.webTestClient.get().uri("/employees?gender=Female").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$[0].name").isEqualTo("Anna");
+        this.webTestClient.get().uri("/employees?page=2&pageSize=1").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.length()").isEqualTo(1);
+        this.webTestClient.get().uri("/employees?limit=1").exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(KeysetCursor.NEXT_CURSOR_HEADER)
+                .expectBody().jsonPath("$[0].name").isEqualTo("Sam");
+        this.webTestClient.get().uri("/employees/" + this.sam.getId()).exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.name").isEqualTo("Sam");
+    }
+
+    @Test
+    void should_stream_employees_as_ndjson_when_get_all_given_ndjson_accept() {
+        //when
+        String body = this.webTestClient.get().uri("/employees")
+                .accept(MediaType.parseMediaType(EmployeeController.APPLICATION_NDJSON_VALUE))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        //then
+        assertEquals(2, body.trim().split("\n").length);
+        assertTrue(body.contains("\"name\":\"Sam\""));
+    }
+
+    @Test
+    void should_add_replace_and_delete_employee_when_write_employee_endpoints() throws Exception {
+        //given
+        JSONObject requestBody = new JSONObject();
+        requestBody.put("name", "Ken");
+        requestBody.put("age", 30);
+        requestBody.put("gender", "Male");
+        requestBody.put("salary", 40000);
+        requestBody.put("companyId", this.addedCompany.getId());
+
+        //when
+        //then
+        this.webTestClient.post().uri("/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody.toString())
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody().jsonPath("$.name").isEqualTo("Ken");
+
+        requestBody.put("name", "Samuel");
+        this.webTestClient.put().uri("/employees/" + this.sam.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody.toString())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.name").isEqualTo("Samuel");
+
+        this.webTestClient.delete().uri("/employees/" + this.sam.getId()).exchange()
+                .expectStatus().isNoContent();
+        assertFalse(this.employeeRepository.existsById(this.sam.getId()));
+        this.webTestClient.get().uri("/employees/" + this.sam.getId()).exchange()
+                .expectStatus().isNotFound();
+        assertEquals(0, this.companyRepository.findById(this.addedCompany.getId()).get().getEmployeesNumber());
+    }
+
+    @Test
+    void should_return_companies_with_employees_when_get_company_endpoints() {
+        //when
+        //then
+        this.webTestClient.get().uri("/companies").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].companyName").isEqualTo("Company")
+                .jsonPath("$[0].employees.length()").isEqualTo(2);
+        this.webTestClient.get().uri("/companies?page=1&pageSize=1").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.length()").isEqualTo(1);
+        this.webTestClient.get().uri("/companies?limit=1").exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(KeysetCursor.NEXT_CURSOR_HEADER);
+        this.webTestClient.get().uri("/companies/" + this.addedCompany.getId()).exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.employees.length()").isEqualTo(2);
+        this.webTestClient.get().uri("/companies/" + this.addedCompany.getId() + "/employees").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.length()").isEqualTo(2);
+        this.webTestClient.get().uri("/companies/5f8e7a0b9c1d2e3f4a5b6c7d/employees").exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void should_return_only_selected_fields_when_get_endpoints_given_fields_and_embed() {
+        //when
+        //then
+        this.webTestClient.get().uri("/employees?fields=name").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].name").isEqualTo("Sam")
+                .jsonPath("$[0].age").doesNotExist();
+        this.webTestClient.get().uri("/employees/" + this.sam.getId() + "?fields=age").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.age").isEqualTo(20)
+                .jsonPath("$.name").doesNotExist();
+        this.webTestClient.get().uri("/companies?embed=none").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].companyName").isEqualTo("Company")
+                .jsonPath("$[0].employees").doesNotExist();
+        this.webTestClient.get().uri("/companies/" + this.addedCompany.getId() + "?fields=employees").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.companyName").doesNotExist()
+                .jsonPath("$.employees.length()").isEqualTo(2);
+        this.webTestClient.get().uri("/employees?fields=password").exchange()
+                .expectStatus().isBadRequest();
+        this.webTestClient.get().uri("/companies?embed=departments").exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void should_add_replace_and_delete_company_when_write_company_endpoints() throws Exception {
+        //given
+        JSONObject requestBody = new JSONObject();
+        requestBody.put("companyName", "Other");
+
+        //when
+        //then
+        this.webTestClient.post().uri("/companies")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody.toString())
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody().jsonPath("$.companyName").isEqualTo("Other");
+
+        this.webTestClient.put().uri("/companies/" + this.addedCompany.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody.toString())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.companyName").isEqualTo("Other");
+
+        this.webTestClient.delete().uri("/companies/" + this.addedCompany.getId()).exchange()
+                .expectStatus().isNoContent();
+        this.webTestClient.get().uri("/companies/" + this.addedCompany.getId()).exchange()
+                .expectStatus().isNotFound();
+    }
+}
@@ -1,27 +1,47 @@
 package com.thoughtworks.springbootemployee.service;
 
+import com.thoughtworks.springbootemployee.concurrency.FanOutExecutor;
 import com.thoughtworks.springbootemployee.entity.Company;
 import com.thoughtworks.springbootemployee.entity.Employee;
 import com.thoughtworks.springbootemployee.exception.CompanyNotFoundException;
+import com.thoughtworks.springbootemployee.pagination.LimitedList;
+import com.thoughtworks.springbootemployee.pagination.ListLimits;
+import com.thoughtworks.springbootemployee.repository.CascadePolicy;
 import com.thoughtworks.springbootemployee.repository.CompanyRepository;
 import com.thoughtworks.springbootemployee.repository.EmployeeRepository;
+import com.thoughtworks.springbootemployee.statistics.EmployeeStats;
+import com.thoughtworks.springbootemployee.view.CompanyEmployeesView;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -35,6 +55,15 @@ public class CompanyServiceTest {
     @Mock
     EmployeeRepository employeeRepository;
 
+    @Mock
+    CompanyEmployeesView companyEmployeesView;
+
+    @Mock
+    FanOutExecutor fanOutExecutor;
+
+    @Spy
+    ListLimits listLimits = new ListLimits();
+
     @InjectMocks
     CompanyService companyService;
 
@@ -92,13 +121,51 @@ public class CompanyServiceTest {
         );
 
         when(this.companyRepository.findById("1")).thenReturn(Optional.of(company));
-        when(this.employeeRepository.findAllByCompanyId("1")).thenReturn(employees);
+        when(this.employeeRepository.findAllByCompanyId("1", PageRequest.of(0, 1001, Sort.by(Sort.Direction.ASC, "id")))).thenReturn(employees);
 
         //when
-        List<Employee> returnedEmployees = this.companyService.findCompanyEmployeesById("1");
+        LimitedList<Employee> returnedEmployees = this.companyService.findCompanyEmployeesById("1");
 
         //then
-        assertEquals(employees, returnedEmployees);
+        assertEquals(employees, returnedEmployees.getItems());
+        assertFalse(returnedEmployees.isTruncated());
+    }
+
+    @Test
+    void should_return_employees_from_view_when_find_company_employees_by_id_given_loaded_company_employees_view() throws CompanyNotFoundException {
+        //given
+        List<Employee> employees = Collections.singletonList(new Employee("Sam", 20, "Male", 200000, "1"));
+
+        when(this.companyRepository.findById("1")).thenReturn(Optional.of(new Company("Company1")));
+        when(this.companyEmployeesView.isLoaded()).thenReturn(true);
+        when(this.companyEmployeesView.findAllByCompanyId("1", 1001)).thenReturn(employees);
+
+        //when
+        LimitedList<Employee> returnedEmployees = this.companyService.findCompanyEmployeesById("1");
+
+        //then
+        assertEquals(employees, returnedEmployees.getItems());
+        verify(this.employeeRepository, never()).findAllByCompanyId(any(), any());
+    }
+
+    @Test
+    void should_return_truncated_employees_when_find_company_employees_by_id_given_more_employees_than_default_limit() throws CompanyNotFoundException {
+        //given
+        List<Employee> employees = Arrays.asList(
+                new Employee("Sam", 20, "Male", 200000, "1"),
+                new Employee("Ken", 20, "Male", 200000, "1")
+        );
+        this.listLimits.setDefaultLimit(1);
+
+        when(this.companyRepository.findById("1")).thenReturn(Optional.of(new Company("Company1")));
+        when(this.employeeRepository.findAllByCompanyId("1", PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "id")))).thenReturn(employees);
+
+        //when
+        LimitedList<Employee> returnedEmployees = this.companyService.findCompanyEmployeesById("1");
+
+        //then
+        assertEquals(employees.subList(0, 1), returnedEmployees.getItems());
+        assertTrue(returnedEmployees.isTruncated());
     }
 
     @Test
@@ -113,6 +180,128 @@ public class CompanyServiceTest {
         });
     }
 
+    @Test
+    void should_return_company_stats_when_find_company_stats_by_id_given_found_id() throws CompanyNotFoundException {
+        //given
+        EmployeeStats employeeStats = new EmployeeStats(null, 2);
+
+        when(this.companyRepository.existsById("1")).thenReturn(true);
+        when(this.employeeRepository.aggregateStats("1", null)).thenReturn(Collections.singletonList(employeeStats));
+
+        //when
+        EmployeeStats returnedEmployeeStats = this.companyService.findCompanyStatsById("1");
+
+        //then
+        assertEquals(employeeStats, returnedEmployeeStats);
+    }
+
+    @Test
+    void should_throw_company_not_found_exception_when_find_company_stats_by_id_given_not_found_id() {
+        //given
+        when(this.companyRepository.existsById("1")).thenReturn(false);
+
+        //then
+        assertThrows(CompanyNotFoundException.class, () -> {
+            //when
+            this.companyService.findCompanyStatsById("1");
+        });
+        verify(this.employeeRepository, never()).aggregateStats(any(), any());
+    }
+
+    @Test
+    void should_return_employees_grouped_by_company_id_when_find_employees_by_company_ids_given_company_ids() {
+        //given
+        Employee employee1 = new Employee("Sam", 20, "Male", 200000, "1");
+        Employee employee2 = new Employee("Ken", 20, "Male", 200000, "2");
+        Employee employee3 = new Employee("Anna", 20, "Female", 200000, "1");
+        List<String> companyIds = Arrays.asList("1", "2", "3");
+
+        when(this.employeeRepository.findAllByCompanyIdIn(companyIds, 101)).thenReturn(Arrays.asList(employee1, employee2, employee3));
+
+        //when
+        Map<String, LimitedList<Employee>> returnedEmployees = this.companyService.findEmployeesByCompanyIds(companyIds);
+
+        //then
+        assertEquals(Arrays.asList(employee1, employee3), returnedEmployees.get("1").getItems());
+        assertEquals(Collections.singletonList(employee2), returnedEmployees.get("2").getItems());
+        assertFalse(returnedEmployees.containsKey("3"));
+        verify(this.employeeRepository, times(1)).findAllByCompanyIdIn(companyIds, 101);
+    }
+
+    @Test
+    void should_truncate_each_company_employees_when_find_employees_by_company_ids_given_company_over_embedded_limit() {
+        //given
+        this.listLimits.setEmbeddedLimit(1);
+        Employee employee1 = new Employee("Sam", 20, "Male", 200000, "1");
+        Employee employee2 = new Employee("Ken", 20, "Male", 200000, "2");
+        Employee employee3 = new Employee("Anna", 20, "Female", 200000, "1");
+        List<String> companyIds = Arrays.asList("1", "2");
+
+        when(this.employeeRepository.findAllByCompanyIdIn(companyIds, 2)).thenReturn(Arrays.asList(employee1, employee2, employee3));
+
+        //when
+        Map<String, LimitedList<Employee>> returnedEmployees = this.companyService.findEmployeesByCompanyIds(companyIds);
+
+        //then
+        assertEquals(Collections.singletonList(employee1), returnedEmployees.get("1").getItems());
+        assertTrue(returnedEmployees.get("1").isTruncated());
+        assertEquals(Collections.singletonList(employee2), returnedEmployees.get("2").getItems());
+        assertFalse(returnedEmployees.get("2").isTruncated());
+    }
+
+    @Test
+    void should_return_employees_from_view_when_find_employees_by_company_ids_given_loaded_company_employees_view() {
+        //given
+        List<String> companyIds = Arrays.asList("1", "2");
+        Map<String, List<Employee>> employees = Collections.singletonMap("1", Collections.singletonList(new Employee("Sam", 20, "Male", 200000, "1")));
+
+        when(this.companyEmployeesView.isLoaded()).thenReturn(true);
+        when(this.companyEmployeesView.findAllByCompanyIdIn(companyIds, 101)).thenReturn(employees);
+
+        //when
+        Map<String, LimitedList<Employee>> returnedEmployees = this.companyService.findEmployeesByCompanyIds(companyIds);
+
+        //then
+        assertEquals(employees.get("1"), returnedEmployees.get("1").getItems());
+        assertFalse(returnedEmployees.containsKey("2"));
+        verify(this.employeeRepository, never()).findAllByCompanyIdIn(any(), anyInt());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_query_employees_per_partition_when_find_employees_by_company_ids_given_fan_out_enabled_and_more_ids_than_partition_size() {
+        //given
+        ReflectionTestUtils.setField(this.companyService, "fanOutPartitionSize", 2);
+        Employee employee1 = new Employee("Sam", 20, "Male", 200000, "1");
+        Employee employee3 = new Employee("Anna", 20, "Female", 200000, "3");
+        List<String> companyIds = Arrays.asList("1", "2", "3");
+
+        when(this.fanOutExecutor.isEnabled()).thenReturn(true);
+        when(this.fanOutExecutor.map(anyList(), any())).thenAnswer(invocation -> ((List<List<String>>) invocation.getArgument(0)).stream()
+                .map((Function<List<String>, List<Employee>>) invocation.getArgument(1))
+                .collect(Collectors.toList()));
+        when(this.employeeRepository.findAllByCompanyIdIn(Arrays.asList("1", "2"), 101)).thenReturn(Collections.singletonList(employee1));
+        when(this.employeeRepository.findAllByCompanyIdIn(Collections.singletonList("3"), 101)).thenReturn(Collections.singletonList(employee3));
+
+        //when
+        Map<String, LimitedList<Employee>> returnedEmployees = this.companyService.findEmployeesByCompanyIds(companyIds);
+
+        //then
+        assertEquals(Collections.singletonList(employee1), returnedEmployees.get("1").getItems());
+        assertEquals(Collections.singletonList(employee3), returnedEmployees.get("3").getItems());
+        verify(this.employeeRepository, times(2)).findAllByCompanyIdIn(any(), anyInt());
+    }
+
+    @Test
+    void should_not_query_employees_when_find_employees_by_company_ids_given_no_company_ids() {
+        //when
+        Map<String, LimitedList<Employee>> returnedEmployees = this.companyService.findEmployeesByCompanyIds(Collections.emptyList());
+
+        //then
+        assertTrue(returnedEmployees.isEmpty());
+        verify(this.employeeRepository, never()).findAllByCompanyIdIn(any(), anyInt());
+    }
+
     @Test
     void should_return_last_two_companies_when_find_companies_with_pagination_given_companies_2_page_1_page_size_2() {
         //given
@@ -133,6 +322,52 @@ public class CompanyServiceTest {
         assertEquals(companyPage, returnedCompanyPage);
     }
 
+    @Test
+    void should_return_companies_after_last_id_when_find_all_after_given_last_id_and_limit() {
+        //given
+        List<Company> companies = Collections.singletonList(new Company("Company1"));
+
+        when(this.companyRepository.findAllAfter("1", 1, null)).thenReturn(companies);
+
+        //when
+        List<Company> returnedCompanies = this.companyService.findAllAfter("1", 1);
+
+        //then
+        assertEquals(companies, returnedCompanies);
+    }
+
+    @Test
+    void should_throw_illegal_argument_exception_when_find_all_after_given_limit_over_max_page_size() {
+        //then
+        assertThrows(IllegalArgumentException.class, () -> {
+            //when
+            this.companyService.findAllAfter(null, 1001);
+        });
+    }
+
+    @Test
+    void should_throw_illegal_argument_exception_when_find_all_after_given_limit_0() {
+        //then
+        assertThrows(IllegalArgumentException.class, () -> {
+            //when
+            this.companyService.findAllAfter(null, 0);
+        });
+    }
+
+    @Test
+    void should_return_matched_companies_when_search_by_name_given_text_and_limit() {
+        //given
+        List<Company> companies = Collections.singletonList(new Company("Company1"));
+
+        when(this.companyRepository.searchByName("Comp", 5)).thenReturn(companies);
+
+        //when
+        List<Company> returnedCompanies = this.companyService.searchByName("Comp", 5);
+
+        //then
+        assertEquals(companies, returnedCompanies);
+    }
+
     @Test
     void should_return_correct_company_when_add_given_not_existed_company() {
         //given
@@ -148,18 +383,69 @@ public class CompanyServiceTest {
     }
 
     @Test
-    void should_return_replaced_company_when_replace_given_found_company_id() throws CompanyNotFoundException {
+    void should_return_updated_company_when_replace_given_found_company_id() throws CompanyNotFoundException {
         //given
         Company company = new Company("Company1");
+        Company updatedCompany = new Company("Company1");
+        updatedCompany.setId("1");
+        updatedCompany.setEmployeesNumber(3);
 
-        when(this.companyRepository.existsById("1")).thenReturn(true);
-        when(this.companyRepository.save(company)).thenReturn(company);
+        when(this.companyRepository.findAndUpdateById("1", company)).thenReturn(Optional.of(updatedCompany));
 
         //when
         Company returnedCompany = this.companyService.replace("1", company);
 
         //then
+        assertEquals("1", returnedCompany.getId());
         assertEquals(company.getCompanyName(), returnedCompany.getCompanyName());
+        assertEquals(3, returnedCompany.getEmployeesNumber());
+    }
+
+    @Test
+    void should_increment_employees_numbers_and_touch_versions_when_adjust_employees_numbers_given_deltas() {
+        //given
+        Map<String, Integer> deltas = new HashMap<>();
+        deltas.put("1", 2);
+        deltas.put("2", 0);
+
+        //when
+        this.companyService.adjustEmployeesNumbers(deltas);
+
+        //then
+        verify(this.companyRepository, times(1)).incrementEmployeesNumbers(deltas);
+    }
+
+    @Test
+    void should_not_write_when_adjust_employees_numbers_given_no_deltas() {
+        //when
+        this.companyService.adjustEmployeesNumbers(Collections.emptyMap());
+
+        //then
+        verify(this.companyRepository, never()).incrementEmployeesNumbers(any());
+    }
+
+    @Test
+    void should_return_version_when_find_version_by_id_given_found_id() throws CompanyNotFoundException {
+        //given
+        when(this.companyRepository.findVersionById("1")).thenReturn(Optional.of(3L));
+
+        //when
+        long returnedVersion = this.companyService.findVersionById("1");
+
+        //then
+        assertEquals(3L, returnedVersion);
+    }
+
+    @Test
+    void should_throw_company_not_found_exception_when_find_version_by_id_given_not_found_id() {
+        //given
+        when(this.companyRepository.findVersionById("1")).thenReturn(Optional.empty());
+
+        //then
+        assertThrows(CompanyNotFoundException.class, () -> {
+            //when
+            this.companyService.findVersionById("1");
+        });
     }
 
     @Test
@@ -167,7 +453,7 @@ public class CompanyServiceTest {
         //given
         Company company = new Company("Company1");
 
-        when(this.companyRepository.existsById("1")).thenReturn(false);
+        when(this.companyRepository.findAndUpdateById("1", company)).thenReturn(Optional.empty());
 
         //then
         assertThrows(CompanyNotFoundException.class, () -> {
@@ -177,26 +463,90 @@ public class CompanyServiceTest {
     }
 
     @Test
-    void should_call_company_repository_delete_by_id_once_when_delete_given_found_company_id() throws CompanyNotFoundException {
+    void should_call_company_repository_remove_by_id_once_when_delete_given_found_company_id() throws CompanyNotFoundException {
         //given
-        when(this.companyRepository.existsById("1")).thenReturn(true);
+        when(this.companyRepository.removeById("1")).thenReturn(true);
 
         //when
-        this.companyService.delete("1");
+        this.companyService.delete("1", CascadePolicy.NONE, null);
 
         //then
-        verify(this.companyRepository, times(1)).deleteById("1");
+        verify(this.companyRepository, times(1)).removeById("1");
+        verify(this.companyRepository, never()).existsById("1");
     }
 
     @Test
     void should_throw_company_not_found_exception_when_delete_given_not_found_company_id() {
         //given
-        when(this.companyRepository.existsById("1")).thenReturn(false);
+        when(this.companyRepository.removeById("1")).thenReturn(false);
 
         //then
         assertThrows(CompanyNotFoundException.class, () -> {
            //then
-            this.companyService.delete("1");
+            this.companyService.delete("1", CascadePolicy.NONE, null);
+        });
+    }
+
+    @Test
+    void should_return_affected_employees_when_delete_given_found_company_id_and_nullify_cascade() throws CompanyNotFoundException {
+        //given
+        when(this.companyRepository.removeByIdCascading("1", CascadePolicy.NULLIFY, null)).thenReturn(Optional.of(3L));
+
+        //when
+        long affected = this.companyService.delete("1", CascadePolicy.NULLIFY, null);
+
+        //then
+        assertEquals(3L, affected);
+        verify(this.companyEmployeesView, times(1)).moveAll("1", null);
+        verify(this.companyRepository, never()).removeById(any());
+    }
+
+    @Test
+    void should_move_employees_to_target_when_delete_given_reassign_cascade_and_found_target() throws CompanyNotFoundException {
+        //given
+        when(this.companyRepository.existsById("2")).thenReturn(true);
+        when(this.companyRepository.removeByIdCascading("1", CascadePolicy.REASSIGN, "2")).thenReturn(Optional.of(2L));
+
+        //when
+        long affected = this.companyService.delete("1", CascadePolicy.REASSIGN, "2");
+
+        //then
+        assertEquals(2L, affected);
+        verify(this.companyEmployeesView, times(1)).moveAll("1", "2");
+    }
+
+    @Test
+    void should_throw_company_not_found_exception_when_delete_given_reassign_cascade_and_not_found_target() {
+        //given
+        when(this.companyRepository.existsById("2")).thenReturn(false);
+
+        //then
+        assertThrows(CompanyNotFoundException.class, () -> {
+            //when
+            this.companyService.delete("1", CascadePolicy.REASSIGN, "2");
+        });
+        verify(this.companyRepository, never()).removeByIdCascading(any(), any(), any());
+    }
+
+    @Test
+    void should_throw_illegal_argument_exception_when_delete_given_reassign_cascade_to_same_company() {
+        //then
+        assertThrows(IllegalArgumentException.class, () -> {
+            //when
+            this.companyService.delete("1", CascadePolicy.REASSIGN, "1");
+        });
+    }
+
+    @Test
+    void should_throw_company_not_found_exception_when_delete_given_delete_cascade_and_not_found_company_id() {
+        //given
+        when(this.companyRepository.removeByIdCascading("1", CascadePolicy.DELETE, null)).thenReturn(Optional.empty());
+
+        //then
+        assertThrows(CompanyNotFoundException.class, () -> {
+            //when
+            this.companyService.delete("1", CascadePolicy.DELETE, null);
         });
+        verify(this.companyEmployeesView, never()).moveAll(any(), any());
     }
 }
@@ -1,27 +1,51 @@
 package com.thoughtworks.springbootemployee.service;
 
+import com.thoughtworks.springbootemployee.dto.EmployeeBulkItemResponse;
+import com.thoughtworks.springbootemployee.entity.Company;
 import com.thoughtworks.springbootemployee.entity.Employee;
 import com.thoughtworks.springbootemployee.exception.CompanyNotFoundException;
 import com.thoughtworks.springbootemployee.exception.EmployeeNotFoundException;
-import com.thoughtworks.springbootemployee.repository.CompanyRepository;
+import com.thoughtworks.springbootemployee.exception.ExportNotAllowedException;
+import com.thoughtworks.springbootemployee.pagination.LimitedList;
+import com.thoughtworks.springbootemployee.pagination.ListLimits;
 import com.thoughtworks.springbootemployee.repository.EmployeeRepository;
+import com.thoughtworks.springbootemployee.search.EmployeeSearchCriteria;
+import com.thoughtworks.springbootemployee.search.SearchCursor;
+import com.thoughtworks.springbootemployee.statistics.EmployeeStats;
+import com.thoughtworks.springbootemployee.view.CompanyEmployeesView;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -33,7 +57,13 @@ public class EmployeeServiceTest {
     EmployeeRepository employeeRepository;
 
     @Mock
-    CompanyRepository companyRepository;
+    CompanyService companyService;
+
+    @Mock
+    CompanyEmployeesView companyEmployeesView;
+
+    @Spy
+    ListLimits listLimits = new ListLimits();
 
     @InjectMocks
     EmployeeService employeeService;
@@ -55,6 +85,21 @@ public class EmployeeServiceTest {
         assertEquals(employees, returnedEmployees);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void should_return_employee_cursor_when_stream_all_given_all_employees() {
+        //given
+        CloseableIterator<Employee> employees = mock(CloseableIterator.class);
+
+        when(this.employeeRepository.streamAll()).thenReturn(employees);
+
+        //when
+        CloseableIterator<Employee> returnedEmployees = this.employeeService.streamAll();
+
+        //then
+        assertEquals(employees, returnedEmployees);
+    }
+
     @Test
     public void should_return_all_male_employees_when_get_all_by_gender_given_all_employees() {
         //given
@@ -63,13 +108,80 @@ public class EmployeeServiceTest {
                 new Employee("Ken", 20, "Male", 300000, "1")
         );
 
-        when(this.employeeRepository.findAllByGender("Male")).thenReturn(employees);
+        when(this.employeeRepository.findAllByGender("Male", PageRequest.of(0, 1001, Sort.by(Sort.Direction.ASC, "id")))).thenReturn(employees);
 
         //when
-        List<Employee> returnedEmployees = this.employeeService.findAllByGender("Male");
+        LimitedList<Employee> returnedEmployees = this.employeeService.findAllByGender("Male");
 
         //then
-        assertEquals(employees, returnedEmployees);
+        assertEquals(employees, returnedEmployees.getItems());
+        assertFalse(returnedEmployees.isTruncated());
+    }
+
+    @Test
+    public void should_return_truncated_employees_when_find_all_given_more_employees_than_default_limit() {
+        //given
+        List<Employee> employees = Arrays.asList(
+                new Employee("Sam", 20, "Male", 200000, "1"),
+                new Employee("Ken", 20, "Male", 300000, "1"),
+                new Employee("Anna", 20, "Female", 300000, "1")
+        );
+        Set<String> fields = Collections.singleton("name");
+        this.listLimits.setDefaultLimit(2);
+
+        when(this.employeeRepository.findAllProjected(PageRequest.of(0, 3, Sort.by(Sort.Direction.ASC, "id")), fields)).thenReturn(employees);
+
+        //when
+        LimitedList<Employee> returnedEmployees = this.employeeService.findAll(fields);
+
+        //then
+        assertEquals(employees.subList(0, 2), returnedEmployees.getItems());
+        assertEquals(2, returnedEmployees.getLimit());
+        assertTrue(returnedEmployees.isTruncated());
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_find_all_given_page_size_over_max_page_size() {
+        //given
+        this.listLimits.setMaxPageSize(100);
+
+        //then
+        assertThrows(IllegalArgumentException.class, () -> {
+            //when
+            this.employeeService.findAll(PageRequest.of(0, 101), null);
+        });
+        verify(this.employeeRepository, never()).findAllProjected(any(), any());
+    }
+
+    @Test
+    public void should_throw_export_not_allowed_exception_when_check_export_allowed_given_client_not_in_export_clients() {
+        //given
+        this.listLimits.setExportClients(Collections.singletonList("exporter"));
+
+        //then
+        assertThrows(ExportNotAllowedException.class, () -> {
+            //when
+            this.employeeService.checkExportAllowed("other");
+        });
+    }
+
+    @Test
+    public void should_throw_export_not_allowed_exception_when_check_export_allowed_given_unauthenticated_client_and_export_clients() {
+        //given
+        this.listLimits.setExportClients(Collections.singletonList("exporter"));
+
+        //then
+        assertThrows(ExportNotAllowedException.class, () -> {
+            //when
+            this.employeeService.checkExportAllowed(null);
+        });
+    }
+
+    @Test
+    public void should_allow_unauthenticated_client_when_check_export_allowed_given_default_export_clients() {
+        //when
+        //then
+        assertDoesNotThrow(() -> this.employeeService.checkExportAllowed(null));
     }
 
     @Test
@@ -93,6 +205,176 @@ public class EmployeeServiceTest {
         assertEquals(employeesPage, returnedEmployeesPage);
     }
 
+    @Test
+    public void should_return_projected_employees_when_find_all_given_pageable_and_fields() {
+        //given
+        List<Employee> employees = Collections.singletonList(new Employee("Sam", null, null, null, null));
+        Pageable pageable = PageRequest.of(0, 1);
+        Set<String> fields = Collections.singleton("name");
+
+        when(this.employeeRepository.findAllProjected(pageable, fields)).thenReturn(employees);
+
+        //when
+        List<Employee> returnedEmployees = this.employeeService.findAll(pageable, fields);
+
+        //then
+        assertEquals(employees, returnedEmployees);
+    }
+
+    @Test
+    public void should_return_employees_after_last_id_when_find_all_after_given_last_id_and_limit() {
+        //given
+        List<Employee> employees = Collections.singletonList(new Employee("Sam", 20, "Male", 200000, "1"));
+
+        when(this.employeeRepository.findAllAfter("1", 1, null)).thenReturn(employees);
+
+        //when
+        List<Employee> returnedEmployees = this.employeeService.findAllAfter("1", 1);
+
+        //then
+        assertEquals(employees, returnedEmployees);
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_find_all_after_given_limit_over_max_page_size() {
+        //then
+        assertThrows(IllegalArgumentException.class, () -> {
+            //when
+            this.employeeService.findAllAfter(null, 1001);
+        });
+        verify(this.employeeRepository, never()).findAllAfter(any(), anyInt(), any());
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_find_all_after_given_limit_0() {
+        //then
+        assertThrows(IllegalArgumentException.class, () -> {
+            //when
+            this.employeeService.findAllAfter(null, 0);
+        });
+    }
+
+    @Test
+    public void should_return_matching_employees_when_search_given_criteria() {
+        //given
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria();
+        criteria.setGender("Male");
+        criteria.setMinAge(20);
+        criteria.setMaxAge(30);
+        List<Employee> employees = Collections.singletonList(new Employee("Sam", 20, "Male", 200000, "1"));
+
+        when(this.employeeRepository.search(criteria, null, null)).thenReturn(employees);
+
+        //when
+        List<Employee> returnedEmployees = this.employeeService.search(criteria, null);
+
+        //then
+        assertEquals(employees, returnedEmployees);
+    }
+
+    @Test
+    public void should_return_matched_employees_when_search_by_name_given_text_and_no_limit() {
+        //given
+        List<Employee> employees = Collections.singletonList(new Employee("Sam", 20, "Male", 200000, "1"));
+
+        when(this.employeeRepository.searchByName("Sam", 10)).thenReturn(employees);
+
+        //when
+        List<Employee> returnedEmployees = this.employeeService.searchByName(" Sam ", null);
+
+        //then
+        assertEquals(employees, returnedEmployees);
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_search_by_name_given_blank_text() {
+        //then
+        assertThrows(IllegalArgumentException.class, () -> {
+            //when
+            this.employeeService.searchByName(" ", null);
+        });
+        verify(this.employeeRepository, never()).searchByName(any(), anyInt());
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_search_by_name_given_limit_51() {
+        //then
+        assertThrows(IllegalArgumentException.class, () -> {
+            //when
+            this.employeeService.searchByName("Sam", 51);
+        });
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_search_given_both_offset_and_keyset_paging() {
+        //given
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria();
+        criteria.setPage(1);
+        criteria.setLimit(10);
+
+        //then
+        assertThrows(IllegalArgumentException.class, () -> {
+            //when
+            this.employeeService.search(criteria, null);
+        });
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_search_given_min_salary_greater_than_max_salary() {
+        //given
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria();
+        criteria.setMinSalary(2000);
+        criteria.setMaxSalary(1000);
+
+        //then
+        assertThrows(IllegalArgumentException.class, () -> {
+            //when
+            this.employeeService.search(criteria, null);
+        });
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_search_given_cursor_of_other_sort() {
+        //given
+        Employee last = new Employee("Sam", 20, "Male", 200000, "1");
+        last.setId("5f8e7a0b9c1d2e3f4a5b6c7d");
+
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria();
+        criteria.setSort("age");
+        criteria.setLimit(10);
+        criteria.setAfter(SearchCursor.encode(last, "salary"));
+
+        //then
+        assertThrows(IllegalArgumentException.class, () -> {
+            //when
+            this.employeeService.search(criteria, null);
+        });
+        verify(this.employeeRepository, never()).search(any(), any(), any());
+    }
+
+    @Test
+    public void should_return_stats_per_gender_when_find_stats_given_group_by_gender() {
+        //given
+        List<EmployeeStats> employeeStats = Arrays.asList(new EmployeeStats("Female", 1), new EmployeeStats("Male", 2));
+
+        when(this.employeeRepository.aggregateStats(null, "gender")).thenReturn(employeeStats);
+
+        //when
+        List<EmployeeStats> returnedEmployeeStats = this.employeeService.findStats("gender");
+
+        //then
+        assertEquals(employeeStats, returnedEmployeeStats);
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_find_stats_given_unsupported_group_by() {
+        //then
+        assertThrows(IllegalArgumentException.class, () -> {
+            //when
+            this.employeeService.findStats("name");
+        });
+    }
+
     @Test
     public void should_return_correct_employee_when_find_employee_by_id_given_found_id() throws EmployeeNotFoundException {
         //given
@@ -119,12 +401,36 @@ public class EmployeeServiceTest {
         });
     }
 
+    @Test
+    public void should_return_version_when_find_version_by_id_given_found_id() throws EmployeeNotFoundException {
+        //given
+        when(this.employeeRepository.findVersionById("1")).thenReturn(Optional.of(2L));
+
+        //when
+        long returnedVersion = this.employeeService.findVersionById("1");
+
+        //then
+        assertEquals(2L, returnedVersion);
+    }
+
+    @Test
+    public void should_throw_employee_not_found_exception_when_find_version_by_id_given_not_found_id() {
+        //given
+        when(this.employeeRepository.findVersionById("1")).thenReturn(Optional.empty());
+
+        //then
+        assertThrows(EmployeeNotFoundException.class, () -> {
+            //when
+            this.employeeService.findVersionById("1");
+        });
+    }
+
     @Test
     public void should_return_correct_employee_when_add_given_not_existed_employee() throws CompanyNotFoundException {
         //given
         Employee employee = new Employee("Sam", 20, "Male", 200000, "1");
 
-        when(this.companyRepository.existsById("1")).thenReturn(true);
+        when(this.companyService.findCompanyById("1")).thenReturn(new Company("Company1"));
         when(this.employeeRepository.insert(employee)).thenReturn(employee);
 
         //when
@@ -138,11 +444,41 @@ public class EmployeeServiceTest {
     }
 
     @Test
-    public void should_throw_company_not_found_exception_when_add_given_not_existed_company_id() {
+    public void should_put_employee_into_company_employees_view_when_add_given_employee_with_company_id() throws CompanyNotFoundException {
+        //given
+        Employee employee = new Employee("Sam", 20, "Male", 200000, "1");
+
+        when(this.companyService.findCompanyById("1")).thenReturn(new Company("Company1"));
+        when(this.employeeRepository.insert(employee)).thenReturn(employee);
+
+        //when
+        this.employeeService.add(employee);
+
+        //then
+        verify(this.companyEmployeesView, times(1)).put(employee);
+    }
+
+    @Test
+    public void should_increment_company_employees_number_when_add_given_employee_with_company_id() throws CompanyNotFoundException {
+        //given
+        Employee employee = new Employee("Sam", 20, "Male", 200000, "1");
+
+        when(this.companyService.findCompanyById("1")).thenReturn(new Company("Company1"));
+        when(this.employeeRepository.insert(employee)).thenReturn(employee);
+
+        //when
+        this.employeeService.add(employee);
+
+        //then
+        verify(this.companyService, times(1)).adjustEmployeesNumber("1", 1);
+    }
+
+    @Test
+    public void should_throw_company_not_found_exception_when_add_given_not_existed_company_id() throws CompanyNotFoundException {
         //given
         Employee employee = new Employee("Sam", 20, "Male", 200000, "1");
 
-        when(this.companyRepository.existsById("1")).thenReturn(false);
+        when(this.companyService.findCompanyById("1")).thenThrow(new CompanyNotFoundException());
 
         //then
         assertThrows(CompanyNotFoundException.class, () -> {
@@ -156,15 +492,18 @@ public class EmployeeServiceTest {
         //given
         Employee employee = new Employee("Sam", 20, "Male", 200000, "1");
 
-        when(this.employeeRepository.existsById("1")).thenReturn(true);
-        when(this.companyRepository.existsById("1")).thenReturn(true);
-        when(this.employeeRepository.save(employee)).thenReturn(employee);
+        Employee previousEmployee = new Employee("Ken", 20, "Male", 100000, "1");
+        previousEmployee.setVersion(3L);
+
+        when(this.companyService.findCompanyById("1")).thenReturn(new Company("Company1"));
+        when(this.employeeRepository.findAndReplaceById("1", employee)).thenReturn(Optional.of(previousEmployee));
 
         //when
         Employee returnedEmployee = this.employeeService.replace("1", employee);
 
         //then
-        assertEquals(employee.getId(), returnedEmployee.getId());
+        assertEquals("1", returnedEmployee.getId());
+        assertEquals(4L, returnedEmployee.getVersion());
         assertEquals(employee.getAge(), returnedEmployee.getAge());
         assertEquals(employee.getGender(), returnedEmployee.getGender());
         assertEquals(employee.getName(), returnedEmployee.getName());
@@ -172,11 +511,43 @@ public class EmployeeServiceTest {
     }
 
     @Test
-    public void should_throw_employee_not_found_exception_when_replace_given_not_found_employee_id() {
+    public void should_move_employees_number_between_companies_when_replace_given_employee_moved_to_other_company() throws EmployeeNotFoundException, CompanyNotFoundException {
+        //given
+        Employee employee = new Employee("Sam", 20, "Male", 200000, "2");
+
+        when(this.companyService.findCompanyById("2")).thenReturn(new Company("Company2"));
+        when(this.employeeRepository.findAndReplaceById("1", employee)).thenReturn(Optional.of(new Employee("Sam", 20, "Male", 200000, "1")));
+
+        //when
+        this.employeeService.replace("1", employee);
+
+        //then
+        verify(this.companyService, times(1)).adjustEmployeesNumber("1", -1);
+        verify(this.companyService, times(1)).adjustEmployeesNumber("2", 1);
+    }
+
+    @Test
+    public void should_not_write_company_when_replace_given_employee_kept_in_same_company() throws EmployeeNotFoundException, CompanyNotFoundException {
+        //given
+        Employee employee = new Employee("Sam", 20, "Male", 300000, "1");
+
+        when(this.companyService.findCompanyById("1")).thenReturn(new Company("Company1"));
+        when(this.employeeRepository.findAndReplaceById("1", employee)).thenReturn(Optional.of(new Employee("Sam", 20, "Male", 200000, "1")));
+
+        //when
+        this.employeeService.replace("1", employee);
+
+        //then
+        verify(this.companyService, never()).adjustEmployeesNumber(anyString(), anyInt());
+    }
+
+    @Test
+    public void should_throw_employee_not_found_exception_when_replace_given_not_found_employee_id() throws CompanyNotFoundException {
         //given
         Employee employee = new Employee("Sam", 20, "Male", 200000, "1");
 
-        when(this.employeeRepository.existsById("1")).thenReturn(false);
+        when(this.companyService.findCompanyById("1")).thenReturn(new Company("Company1"));
+        when(this.employeeRepository.findAndReplaceById("1", employee)).thenReturn(Optional.empty());
 
         //then
         assertThrows(EmployeeNotFoundException.class, () -> {
@@ -186,36 +557,125 @@ public class EmployeeServiceTest {
     }
 
     @Test
-    public void should_throw_company_not_found_exception_when_replace_given_not_found_company_id() {
+    public void should_throw_company_not_found_exception_when_replace_given_not_found_company_id() throws CompanyNotFoundException {
         //given
         Employee employee = new Employee("Sam", 20, "Male", 200000, "1");
 
+        when(this.companyService.findCompanyById("1")).thenThrow(new CompanyNotFoundException());
         when(this.employeeRepository.existsById("1")).thenReturn(true);
-        when(this.companyRepository.existsById("1")).thenReturn(false);
 
         //then
         assertThrows(CompanyNotFoundException.class, () -> {
             //when
             this.employeeService.replace("1", employee);
         });
+        verify(this.employeeRepository, never()).findAndReplaceById(anyString(), any());
     }
 
     @Test
-    public void should_call_employee_repository_delete_by_id_once_when_delete_given_found_id() throws EmployeeNotFoundException {
+    public void should_throw_employee_not_found_exception_when_replace_given_not_found_employee_id_and_not_found_company_id() throws CompanyNotFoundException {
         //given
-        when(this.employeeRepository.existsById("1")).thenReturn(true);
+        Employee employee = new Employee("Sam", 20, "Male", 200000, "1");
+
+        when(this.companyService.findCompanyById("1")).thenThrow(new CompanyNotFoundException());
+        when(this.employeeRepository.existsById("1")).thenReturn(false);
+
+        //then
+        assertThrows(EmployeeNotFoundException.class, () -> {
+            //when
+            this.employeeService.replace("1", employee);
+        });
+    }
+
+    @Test
+    public void should_return_item_results_when_bulk_upsert_given_employees_with_found_and_not_found_company_ids() {
+        //given
+        ReflectionTestUtils.setField(this.employeeService, "bulkChunkSize", 2);
+
+        Employee employee1 = new Employee("Sam", 20, "Male", 200000, "1");
+        Employee employee2 = new Employee("Ken", 20, "Male", 300000, "2");
+        Employee employee3 = new Employee("Anna", 20, "Female", 300000, "1");
+        employee3.setId("5f8e7a0b9c1d2e3f4a5b6c7d");
+
+        when(this.companyService.findExistingIds(new HashSet<>(Arrays.asList("1", "2")))).thenReturn(Collections.singleton("1"));
+        when(this.companyService.findExistingIds(Collections.emptySet())).thenReturn(Collections.emptySet());
+        when(this.employeeRepository.bulkUpsert(anyList())).thenReturn(Collections.emptyMap());
+
+        //when
+        List<EmployeeBulkItemResponse> results = this.employeeService.bulkUpsert(Arrays.asList(employee1, employee2, employee3).iterator());
+
+        //then
+        assertEquals(3, results.size());
+        assertEquals(EmployeeBulkItemResponse.Status.CREATED, results.get(0).getStatus());
+        assertEquals(EmployeeBulkItemResponse.Status.FAILED, results.get(1).getStatus());
+        assertEquals("Company not found.", results.get(1).getMessage());
+        assertEquals(EmployeeBulkItemResponse.Status.UPSERTED, results.get(2).getStatus());
+        assertEquals(2, results.get(2).getIndex());
+        verify(this.employeeRepository, times(1)).bulkUpsert(Collections.singletonList(employee1));
+        verify(this.employeeRepository, times(1)).bulkUpsert(Collections.singletonList(employee3));
+        verify(this.companyService, times(2)).adjustEmployeesNumbers(Collections.singletonMap("1", 1));
+    }
+
+    @Test
+    public void should_return_failed_item_when_bulk_upsert_given_bulk_write_error() {
+        //given
+        ReflectionTestUtils.setField(this.employeeService, "bulkChunkSize", 10);
+
+        Employee employee = new Employee("Sam", 20, "Male", 200000, null);
+
+        when(this.companyService.findExistingIds(Collections.emptySet())).thenReturn(Collections.emptySet());
+        when(this.employeeRepository.bulkUpsert(Collections.singletonList(employee))).thenReturn(Collections.singletonMap(0, "E11000 duplicate key error"));
+
+        //when
+        List<EmployeeBulkItemResponse> results = this.employeeService.bulkUpsert(Collections.singletonList(employee).iterator());
+
+        //then
+        assertEquals(1, results.size());
+        assertEquals(EmployeeBulkItemResponse.Status.FAILED, results.get(0).getStatus());
+        assertEquals("E11000 duplicate key error", results.get(0).getMessage());
+    }
+
+    @Test
+    public void should_insert_without_company_lookups_when_insert_all_given_employees_with_assigned_ids() {
+        //given
+        Employee employee1 = new Employee("Sam", 20, "Male", 200000, "1");
+        employee1.setId("5f8e7a0b9c1d2e3f4a5b6c7d");
+        Employee employee2 = new Employee("Ken", 20, "Male", 300000, "1");
+        employee2.setId("5f8e7a0b9c1d2e3f4a5b6c7e");
+        List<Employee> employees = Arrays.asList(employee1, employee2);
+
+        when(this.employeeRepository.bulkInsert(employees)).thenReturn(Collections.singletonMap(1, "E11000 duplicate key error"));
+
+        //when
+        List<EmployeeBulkItemResponse> results = this.employeeService.insertAll(employees);
+
+        //then
+        assertEquals(EmployeeBulkItemResponse.Status.CREATED, results.get(0).getStatus());
+        assertEquals(EmployeeBulkItemResponse.Status.FAILED, results.get(1).getStatus());
+        verify(this.employeeRepository, never()).findCompanyIdsByIds(anyList());
+        verify(this.employeeRepository, never()).bulkUpsert(anyList());
+        verify(this.companyService, never()).findExistingIds(any());
+        verify(this.companyService, times(1)).adjustEmployeesNumbers(Collections.singletonMap("1", 1));
+    }
+
+    @Test
+    public void should_call_employee_repository_find_and_remove_by_id_once_when_delete_given_found_id() throws EmployeeNotFoundException {
+        //given
+        when(this.employeeRepository.findAndRemoveById("1")).thenReturn(Optional.of(new Employee("Sam", 20, "Male", 200000, "1")));
 
         //when
         this.employeeService.delete("1");
 
         //then
-        verify(employeeRepository, times(1)).deleteById("1");
+        verify(employeeRepository, times(1)).findAndRemoveById("1");
+        verify(employeeRepository, never()).existsById("1");
+        verify(this.companyService, times(1)).adjustEmployeesNumber("1", -1);
     }
 
     @Test
     public void should_throw_employee_not_found_exception_when_delete_given_not_found_id() {
         //given
-        when(this.employeeRepository.existsById("1")).thenReturn(false);
+        when(this.employeeRepository.findAndRemoveById("1")).thenReturn(Optional.empty());
 
         //then
         assertThrows(EmployeeNotFoundException.class, () -> {
@@ -0,0 +1,137 @@
+package com.thoughtworks.springbootemployee.service;
+
+import com.thoughtworks.springbootemployee.entity.Company;
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.exception.CompanyNotFoundException;
+import com.thoughtworks.springbootemployee.repository.ReactiveCompanyRepository;
+import com.thoughtworks.springbootemployee.repository.ReactiveEmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@ExtendWith(MockitoExtension.class)
+public class ReactiveCompanyServiceTest {
+    @Mock
+    ReactiveCompanyRepository companyRepository;
+
+    @Mock
+    ReactiveEmployeeRepository employeeRepository;
+
+    @InjectMocks
+    ReactiveCompanyService companyService;
+
+    @Test
+    void should_return_correct_employees_when_find_company_employees_by_id_given_found_id() {
+        //given
+        List<Employee> employees = Arrays.asList(
+                new Employee("Sam", 20, "Male", 200000, "1"),
+                new Employee("Ken", 20, "Male", 200000, "1")
+        );
+
+        when(this.companyRepository.existsById("1")).thenReturn(Mono.just(true));
+        when(this.employeeRepository.findAllByCompanyId("1")).thenReturn(Flux.fromIterable(employees));
+
+        //when
+        List<Employee> returnedEmployees = this.companyService.findCompanyEmployeesById("1").collectList().block();
+
+        //then
+        assertEquals(employees, returnedEmployees);
+    }
+
+    @Test
+    void should_emit_company_not_found_exception_when_find_company_employees_by_id_given_not_found_id() {
+        //given
+        when(this.companyRepository.existsById("1")).thenReturn(Mono.just(false));
+
+        //when
+        Throwable error = this.companyService.findCompanyEmployeesById("1")
+                .map(Throwable.class::cast)
+                .onErrorResume(Mono::just)
+                .blockLast();
+
+        //then
+        assertEquals(CompanyNotFoundException.class, error.getClass());
+    }
+
+    @Test
+    void should_return_employees_grouped_by_company_id_when_find_employees_by_company_ids_given_company_ids() {
+        //given
+        Employee employee1 = new Employee("Sam", 20, "Male", 200000, "1");
+        Employee employee2 = new Employee("Ken", 20, "Male", 200000, "2");
+        Employee employee3 = new Employee("Anna", 20, "Female", 200000, "1");
+        List<String> companyIds = Arrays.asList("1", "2", "3");
+
+        when(this.employeeRepository.findAllByCompanyIdIn(companyIds)).thenReturn(Flux.just(employee1, employee2, employee3));
+
+        //when
+        Map<String, List<Employee>> returnedEmployees = this.companyService.findEmployeesByCompanyIds(companyIds).block();
+
+        //then
+        assertEquals(Arrays.asList(employee1, employee3), returnedEmployees.get("1"));
+        assertEquals(Collections.singletonList(employee2), returnedEmployees.get("2"));
+        assertFalse(returnedEmployees.containsKey("3"));
+    }
+
+    @Test
+    void should_not_query_employees_when_find_employees_by_company_ids_given_no_company_ids() {
+        //when
+        Map<String, List<Employee>> returnedEmployees = this.companyService.findEmployeesByCompanyIds(Collections.emptyList()).block();
+
+        //then
+        assertTrue(returnedEmployees.isEmpty());
+        verify(this.employeeRepository, never()).findAllByCompanyIdIn(any());
+    }
+
+    @Test
+    void should_return_updated_company_when_replace_given_found_company_id() {
+        //given
+        Company company = new Company("Company1");
+        Company updatedCompany = new Company("Company1");
+        updatedCompany.setId("1");
+        updatedCompany.setEmployeesNumber(3);
+
+        when(this.companyRepository.findAndUpdateById("1", company)).thenReturn(Mono.just(updatedCompany));
+
+        //when
+        Company returnedCompany = this.companyService.replace("1", company).block();
+
+        //then
+        assertEquals("1", returnedCompany.getId());
+        assertEquals(company.getCompanyName(), returnedCompany.getCompanyName());
+        assertEquals(3, returnedCompany.getEmployeesNumber());
+    }
+
+    @Test
+    void should_emit_company_not_found_exception_when_delete_given_not_found_company_id() {
+        //given
+        when(this.companyRepository.removeById("1")).thenReturn(Mono.just(false));
+
+        //when
+        Throwable error = this.companyService.delete("1")
+                .then(Mono.<Throwable>empty())
+                .onErrorResume(Mono::just)
+                .block();
+
+        //then
+        assertEquals(CompanyNotFoundException.class, error.getClass());
+    }
+}
@@ -0,0 +1,143 @@
+package com.thoughtworks.springbootemployee.service;
+
+import com.thoughtworks.springbootemployee.entity.Company;
+import com.thoughtworks.springbootemployee.entity.Employee;
+import com.thoughtworks.springbootemployee.exception.CompanyNotFoundException;
+import com.thoughtworks.springbootemployee.exception.EmployeeNotFoundException;
+import com.thoughtworks.springbootemployee.repository.ReactiveEmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@ExtendWith(MockitoExtension.class)
+public class ReactiveEmployeeServiceTest {
+    @Mock
+    ReactiveEmployeeRepository employeeRepository;
+
+    @Mock
+    ReactiveCompanyService companyService;
+
+    @InjectMocks
+    ReactiveEmployeeService employeeService;
+
+    @Test
+    public void should_return_all_employees_when_get_all_given_all_employees() {
+        //given
+        List<Employee> employees = Arrays.asList(
+                new Employee("Sam", 20, "Male", 200000, "1"),
+                new Employee("Ken", 20, "Male", 300000, "1")
+        );
+
+        when(this.employeeRepository.findAll()).thenReturn(Flux.fromIterable(employees));
+
+        //when
+        List<Employee> returnedEmployees = this.employeeService.findAll().collectList().block();
+
+        //then
+        assertEquals(employees, returnedEmployees);
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_find_all_after_given_limit_0() {
+        //then
+        assertThrows(IllegalArgumentException.class, () -> {
+            //when
+            this.employeeService.findAllAfter(null, 0).blockLast();
+        });
+    }
+
+    @Test
+    public void should_return_correct_employee_when_find_employee_by_id_given_found_id() {
+        //given
+        Employee employee = new Employee("Sam", 20, "Male", 200000, "1");
+
+        when(this.employeeRepository.findById("1")).thenReturn(Mono.just(employee));
+
+        //when
+        Employee returnedEmployee = this.employeeService.findEmployeeById("1").block();
+
+        //then
+        assertEquals(employee, returnedEmployee);
+    }
+
+    @Test
+    public void should_emit_employee_not_found_exception_when_find_employee_by_id_given_not_found_id() {
+        //given
+        when(this.employeeRepository.findById("1")).thenReturn(Mono.empty());
+
+        //when
+        Throwable error = this.employeeService.findEmployeeById("1")
+                .map(Throwable.class::cast)
+                .onErrorResume(Mono::just)
+                .block();
+
+        //then
+        assertEquals(EmployeeNotFoundException.class, error.getClass());
+    }
+
+    @Test
+    public void should_emit_company_not_found_exception_when_add_given_not_existed_company_id() {
+        //given
+        Employee employee = new Employee("Sam", 20, "Male", 200000, "1");
+
+        when(this.companyService.findCompanyById("1")).thenReturn(Mono.error(new CompanyNotFoundException()));
+        when(this.employeeRepository.insert(employee)).thenReturn(Mono.just(employee));
+
+        //when
+        Throwable error = this.employeeService.add(employee)
+                .map(Throwable.class::cast)
+                .onErrorResume(Mono::just)
+                .block();
+
+        //then
+        assertEquals(CompanyNotFoundException.class, error.getClass());
+    }
+
+    @Test
+    public void should_return_replaced_employee_when_replace_given_found_employee() {
+        //given
+        Employee employee = new Employee("Sam", 20, "Male", 200000, "1");
+
+        when(this.companyService.findCompanyById("1")).thenReturn(Mono.just(new Company("Company1")));
+        when(this.employeeRepository.findAndReplaceById("1", employee)).thenReturn(Mono.just(new Employee("Ken", 20, "Male", 100000, "1")));
+
+        //when
+        Employee returnedEmployee = this.employeeService.replace("1", employee).block();
+
+        //then
+        assertEquals("1", returnedEmployee.getId());
+        assertEquals(employee.getName(), returnedEmployee.getName());
+    }
+
+    @Test
+    public void should_emit_employee_not_found_exception_when_delete_given_not_found_id() {
+        //given
+        when(this.employeeRepository.findAndRemoveById("1")).thenReturn(Mono.empty());
+
+        //when
+        Throwable error = this.employeeService.delete("1")
+                .then(Mono.<Throwable>empty())
+                .onErrorResume(Mono::just)
+                .block();
+
+        //then
+        assertEquals(EmployeeNotFoundException.class, error.getClass());
+        verify(this.employeeRepository, never()).deleteById(any(String.class));
+    }
+}